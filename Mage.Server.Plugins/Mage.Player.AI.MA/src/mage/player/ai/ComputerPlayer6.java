@@ -296,11 +296,13 @@ public class ComputerPlayer6 extends ComputerPlayer implements Player {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            if (logger.isTraceEnabled()) {
+                logger.trace("Sim getNextAction -- game value:" + game.getState().getValueHash(true, game) + " test value:" + test.gameValue);
+            }
             if (!suggested.isEmpty()) {
                 return false;
             }
-            if (root.playerId.equals(playerId) && root.abilities != null && game.getState().getValue(true).hashCode() == test.gameValue) {
+            if (root.playerId.equals(playerId) && root.abilities != null && game.getState().getValueHash(true, game) == test.gameValue) {
 
                 /*
                  * // Try to fix horizon effect if (root.combat == null ||
@@ -327,7 +329,9 @@ public class ComputerPlayer6 extends ComputerPlayer implements Player {
     }
 
     protected int minimaxAB(SimulationNode2 node, int depth, int alpha, int beta) {
-        logger.trace("Sim minimaxAB [" + depth + "] -- a: " + alpha + " b: " + beta + " <" + (node != null ? node.getScore() : "null") + ">");
+        if (logger.isTraceEnabled()) {
+            logger.trace("Sim minimaxAB [" + depth + "] -- a: " + alpha + " b: " + beta + " <" + (node != null ? node.getScore() : "null") + ">");
+        }
         UUID currentPlayerId = node.getGame().getPlayerList().get();
         SimulationNode2 bestChild = null;
         for (SimulationNode2 child : node.getChildren()) {
@@ -409,7 +413,9 @@ public class ComputerPlayer6 extends ComputerPlayer implements Player {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, ability.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(ability.getControllerId()).getName());
+                        if (logger.isTraceEnabled()) {
+                            logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(ability.getControllerId()).getName());
+                        }
                     }
                     return;
                 }
@@ -468,17 +474,23 @@ public class ComputerPlayer6 extends ComputerPlayer implements Player {
             return val;
         }
         if (depth <= 0 || SimulationNode2.nodeCount > maxNodes || game.gameOver(null)) {
-            logger.trace("Add actions -- reached end state, node count=" + SimulationNode2.nodeCount + ", depth=" + depth);
+            if (logger.isTraceEnabled()) {
+                logger.trace("Add actions -- reached end state, node count=" + SimulationNode2.nodeCount + ", depth=" + depth);
+            }
             val = GameStateEvaluator2.evaluate(playerId, game);
             UUID currentPlayerId = node.getGame().getPlayerList().get();
             //logger.info("reached - " + val + ", playerId=" + playerId + ", node.pid="+currentPlayerId);
             return val;
         } else if (node.getChildren().size() > 0) {
-            logger.trace("Add actions -- something added children:" + node.getChildren().size());
+            if (logger.isTraceEnabled()) {
+                logger.trace("Add actions -- something added children:" + node.getChildren().size());
+            }
             val = minimaxAB(node, depth - 1, alpha, beta);
             return val;
         } else {
-            logger.trace("Add actions -- alpha: " + alpha + " beta: " + beta + " depth:" + depth + " step:" + game.getTurn().getStepType() + " for player:" + (node.getPlayerId().equals(playerId) ? "yes" : "no"));
+            if (logger.isTraceEnabled()) {
+                logger.trace("Add actions -- alpha: " + alpha + " beta: " + beta + " depth:" + depth + " step:" + game.getTurn().getStepType() + " for player:" + (node.getPlayerId().equals(playerId) ? "yes" : "no"));
+            }
             if (allPassed(game)) {
                 if (!game.getStack().isEmpty()) {
                     resolve(node, depth, game);
@@ -499,7 +511,9 @@ public class ComputerPlayer6 extends ComputerPlayer implements Player {
             }
         }
 
-        logger.trace("returning -- score: " + val + " depth:" + depth + " step:" + game.getTurn().getStepType() + " for player:" + game.getPlayer(node.getPlayerId()).getName());
+        if (logger.isTraceEnabled()) {
+            logger.trace("returning -- score: " + val + " depth:" + depth + " step:" + game.getTurn().getStepType() + " for player:" + game.getPlayer(node.getPlayerId()).getName());
+        }
         return val;
 
     }
@@ -510,7 +524,7 @@ public class ComputerPlayer6 extends ComputerPlayer implements Player {
             logger.info("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game);
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getValueHash(true, game));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         //logger.info("Sim Prio -- player " + currentPlayer.getName());
         SimulationNode2 bestNode = null;
@@ -532,7 +546,9 @@ public class ComputerPlayer6 extends ComputerPlayer implements Player {
             if (sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
                 sim.applyEffects();
                 if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action.toString());
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action.toString());
+                    }
                     continue;
                 }
                 if (!sim.gameOver(null) && action.isUsesStack()) {
@@ -541,7 +557,9 @@ public class ComputerPlayer6 extends ComputerPlayer implements Player {
                     sim.getPlayerList().getNext();
                 }
                 SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                logger.trace(new StringBuilder("Sim Prio [").append(depth).append("]#").append(counter).append(" -- newNode (").append(action.toString()).append(") ").append(newNode.hashCode()).append(" parent node ").append(node.hashCode()));
+                if (logger.isTraceEnabled()) {
+                    logger.trace(new StringBuilder("Sim Prio [").append(depth).append("]#").append(counter).append(" -- newNode (").append(action.toString()).append(") ").append(newNode.hashCode()).append(" parent node ").append(node.hashCode()));
+                }
                 // int testVal = GameStateEvaluator2.evaluate(currentPlayer.getId(), sim);
 
                 sim.checkStateAndTriggered();
@@ -255,7 +255,9 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
             val = minimaxAB(node, depth-1, alpha, beta);
         }
         else {
-            logger.trace("Add Action -- alpha: " + alpha + " beta: " + beta + " depth:" + depth + " step:" + game.getTurn().getStepType() + " for player:" + game.getPlayer(game.getPlayerList().get()).getName());
+            if (logger.isTraceEnabled()) {
+                logger.trace("Add Action -- alpha: " + alpha + " beta: " + beta + " depth:" + depth + " step:" + game.getTurn().getStepType() + " for player:" + game.getPlayer(game.getPlayerList().get()).getName());
+            }
             if (allPassed(game)) {
                 if (!game.getStack().isEmpty()) {
                     resolve(node, depth, game);
@@ -321,7 +323,9 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
             }
         }
         node.setScore(val); // test
-        logger.trace("returning -- score: " + val + " depth:" + depth + " step:" + game.getTurn().getStepType() + " for player:" + game.getPlayer(node.getPlayerId()).getName());
+        if (logger.isTraceEnabled()) {
+            logger.trace("returning -- score: " + val + " depth:" + depth + " step:" + game.getTurn().getStepType() + " for player:" + game.getPlayer(node.getPlayerId()).getName());
+        }
         return val;
 
     }
@@ -354,7 +354,9 @@ public class SimulatedPlayer2 extends ComputerPlayer {
                 logger.debug("simulating -- found redundant attack combination");
             }
             else {
-                logger.debug("simulating -- attack:" + sim.getCombat().getGroups().size());
+                if (logger.isDebugEnabled()) {
+                    logger.debug("simulating -- attack:" + sim.getCombat().getGroups().size());
+                }
             }
         }
         List list = new ArrayList<>(engagements.values());
@@ -392,7 +394,9 @@ public class SimulatedPlayer2 extends ComputerPlayer {
         int numGroups = game.getCombat().getGroups().size();
         //try to block each attacker with each potential blocker
         Permanent blocker = blockers.get(0);
-        logger.debug("simulating -- block:" + blocker);
+        if (logger.isDebugEnabled()) {
+            logger.debug("simulating -- block:" + blocker);
+        }
         List<Permanent> remaining = remove(blockers, blocker);
         for (int i = 0; i < numGroups; i++) {
             if (game.getCombat().getGroups().get(i).canBlock(blocker, game)) {
@@ -412,7 +416,9 @@ public class SimulatedPlayer2 extends ComputerPlayer {
         Ability ability = source.copy();
         List<Ability> options = getPlayableOptions(ability, game);
         if (options.isEmpty()) {
-            logger.debug("simulating -- triggered ability:" + ability);
+            if (logger.isDebugEnabled()) {
+                logger.debug("simulating -- triggered ability:" + ability);
+            }
             game.getStack().push(new StackAbility(ability, playerId));
             ability.activate(game, false);
             game.applyEffects();
@@ -424,7 +430,9 @@ public class SimulatedPlayer2 extends ComputerPlayer {
             if (depth == 0) {
                 return true;
             }
-            logger.debug("simulating -- triggered ability - adding children:" + options.size());
+            if (logger.isDebugEnabled()) {
+                logger.debug("simulating -- triggered ability - adding children:" + options.size());
+            }
             for (Ability option: options) {
                 addAbilityNode(parent, option, depth, game);
             }
@@ -438,7 +446,9 @@ public class SimulatedPlayer2 extends ComputerPlayer {
         ability.activate(sim, false);
         sim.applyEffects();
         SimulationNode2 newNode = new SimulationNode2(parent, sim, depth, playerId);
-        logger.debug("simulating -- node #:" + SimulationNode2.getCount() + " triggered ability option");
+        if (logger.isDebugEnabled()) {
+            logger.debug("simulating -- node #:" + SimulationNode2.getCount() + " triggered ability option");
+        }
         for (Target target: ability.getTargets()) {
             for (UUID targetId: target.getTargets()) {
                 newNode.getTargets().add(targetId);
@@ -45,7 +45,7 @@ public class SimulationNode2 implements Serializable {
     protected static int nodeCount;
 
     protected Game game;
-    protected int gameValue;
+    protected long gameValue;
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -88,11 +88,11 @@ public class SimulationNode2 implements Serializable {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
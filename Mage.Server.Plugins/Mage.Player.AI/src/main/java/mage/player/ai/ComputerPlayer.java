@@ -39,6 +39,7 @@ import mage.abilities.effects.common.continious.BecomesCreatureSourceEffect;
 import mage.abilities.keyword.*;
 import mage.abilities.mana.ManaAbility;
 import mage.abilities.mana.ManaOptions;
+import mage.abilities.mana.ManaPaymentSolver;
 import mage.cards.Card;
 import mage.cards.Cards;
 import mage.cards.decks.Deck;
@@ -979,6 +980,9 @@ public class ComputerPlayer extends PlayerImpl implements Player {
         ManaCost cost;
         List<Permanent> producers;
         if (unpaid instanceof ManaCosts) {
+            if (playManaOfSolution((ManaCosts<ManaCost>)unpaid, game)) {
+                return true;
+            }
             cost = ((ManaCosts<ManaCost>)unpaid).get(0);
             producers = getSortedProducers((ManaCosts)unpaid, game);
         }
@@ -1038,6 +1042,60 @@ public class ComputerPlayer extends PlayerImpl implements Player {
         return false;
     }
 
+    /**
+     * Activates one mana ability of the producers the ManaPaymentSolver
+     * selects to pay the unpaid costs. Producers with mana abilities that
+     * have a mana cost are not considered.
+     *
+     * @param unpaid
+     * @param game
+     * @return false if the solver found no payment
+     */
+    private boolean playManaOfSolution(ManaCosts<ManaCost> unpaid, Game game) {
+        if (unpaid.isEmpty() || !ManaPaymentSolver.isSupported(unpaid)) {
+            return false;
+        }
+        List<Permanent> producers = this.getAvailableManaProducers(game);
+        List<List<ManaAbility>> producerAbilities = new ArrayList<List<ManaAbility>>();
+        List<List<Mana>> producerOptions = new ArrayList<List<Mana>>();
+        int[] penalties = new int[producers.size()];
+        for (int i = 0; i < producers.size(); i++) {
+            Permanent permanent = producers.get(i);
+            List<ManaAbility> abilities = new ArrayList<ManaAbility>(permanent.getAbilities().getAvailableManaAbilities(Zone.BATTLEFIELD, game));
+            List<Mana> options = new ArrayList<Mana>();
+            for (ManaAbility ability: abilities) {
+                options.add(ability.getNetMana(game));
+            }
+            producerAbilities.add(abilities);
+            producerOptions.add(options);
+            // keep producers that produce other mana types and have other uses untapped
+            penalties[i] = 1 + abilities.size();
+            for (ActivatedAbility ability: permanent.getAbilities().getActivatedAbilities(Zone.BATTLEFIELD)) {
+                if (!(ability instanceof ManaAbility)) {
+                    penalties[i]++;
+                }
+            }
+            if (!permanent.getCardType().contains(CardType.LAND) || permanent.getCardType().contains(CardType.CREATURE)) {
+                penalties[i] += 2;
+            }
+        }
+        int[] solution = ManaPaymentSolver.solve(unpaid, producerOptions, penalties);
+        if (solution == null) {
+            return false;
+        }
+        // use a producer for the first unpaid cost if possible, the payment is assigned in this order
+        ManaAbility manaAbility = null;
+        for (int i = 0; i < solution.length; i++) {
+            if (solution[i] >= 0) {
+                manaAbility = producerAbilities.get(i).get(solution[i]);
+                if (unpaid.get(0).testPay(producerOptions.get(i).get(solution[i]))) {
+                    break;
+                }
+            }
+        }
+        return manaAbility != null && activateAbility(manaAbility, game);
+    }
+
     /**
      *
      * returns a list of Permanents that produce mana sorted by the number of mana the Permanent produces
@@ -116,7 +116,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(false, game));
+            newRoot = root.getMatchingState(game.getState().getValueHash(false, game));
             if (newRoot != null) {
                 newRoot.emancipate();
                 logger.info("choose action:" + newRoot.getAction() + " success ratio: " + newRoot.getWinRatio());
@@ -62,7 +62,7 @@ public class MCTSNode {
     private Ability action;
     private Game game;
     private Combat combat;
-    private final String stateValue;
+    private final long stateValue;
     private UUID playerId;
     private boolean terminal = false;
 
@@ -70,7 +70,7 @@ public class MCTSNode {
 
     public MCTSNode(Game game) {
         this.game = game;
-        this.stateValue = game.getState().getValue(false, game);
+        this.stateValue = game.getState().getValueHash(false, game);
         this.terminal = game.gameOver(null);
         setPlayer();
         nodeCount = 1;
@@ -78,7 +78,7 @@ public class MCTSNode {
 
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.game = game;
-        this.stateValue = game.getState().getValue(false, game);
+        this.stateValue = game.getState().getValueHash(false, game);
         this.terminal = game.gameOver(null);
         this.parent = parent;
         this.action = action;
@@ -89,7 +89,7 @@ public class MCTSNode {
     protected MCTSNode(MCTSNode parent, Game game, Combat combat) {
         this.game = game;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(false, game);
+        this.stateValue = game.getState().getValueHash(false, game);
         this.terminal = game.gameOver(null);
         this.parent = parent;
         setPlayer();
@@ -206,11 +206,13 @@ public class MCTSNode {
     public void backpropagate(int result) {
         if (result == 0)
             return;
-        if (result == 1)
-            wins++;
-        visits++;
-        if (parent != null)
-            parent.backpropagate(result);
+        MCTSNode node = this;
+        while (node != null) {
+            if (result == 1)
+                node.wins++;
+            node.visits++;
+            node = node.parent;
+        }
     }
 
     public boolean isLeaf() {
@@ -279,7 +281,7 @@ public class MCTSNode {
         return nodeCount;
     }
 
-    public String getStateValue() {
+    public long getStateValue() {
         return stateValue;
     }
 
@@ -359,13 +361,13 @@ public class MCTSNode {
      * @param nextAction - the next action that will be performed
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long state) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<MCTSNode>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateValue == state)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -374,8 +376,25 @@ public class MCTSNode {
         return null;
     }
 
+    /**
+     * merges the visits, the wins and the children of a tree with the same
+     * state into this tree, the trees are walked without recursion because
+     * they can be deeper than the stack allows
+     *
+     * @param merge - the root of the tree to merge
+     */
     public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
+        ArrayDeque<MCTSNode[]> pairs = new ArrayDeque<MCTSNode[]>();
+        pairs.push(new MCTSNode[] {this, merge});
+
+        while (!pairs.isEmpty()) {
+            MCTSNode[] pair = pairs.pop();
+            pair[0].mergeNode(pair[1], pairs);
+        }
+    }
+
+    private void mergeNode(MCTSNode merge, ArrayDeque<MCTSNode[]> pairs) {
+        if (stateValue != merge.stateValue) {
             logger.info("mismatched merge states");
             return;
         }
@@ -392,12 +411,12 @@ public class MCTSNode {
             for (MCTSNode mergeChild: mergeChildren) {
                 if (mergeChild.action != null && child.action != null) {
                     if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             logger.info("mismatched merge states");
                             mergeChildren.remove(mergeChild);
                         }
                         else {
-                            child.merge(mergeChild);
+                            pairs.push(new MCTSNode[] {child, mergeChild});
                             mergeChildren.remove(mergeChild);
                         }
                         break;
@@ -405,12 +424,12 @@ public class MCTSNode {
                 }
                 else {
                     if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             logger.info("mismatched merge states");
                             mergeChildren.remove(mergeChild);
                         }
                         else {
-                            child.merge(mergeChild);
+                            pairs.push(new MCTSNode[] {child, mergeChild});
                             mergeChildren.remove(mergeChild);
                         }
                         break;
@@ -440,9 +459,14 @@ public class MCTSNode {
 //    }
 
     public int size() {
-        int num = 1;
-        for (MCTSNode child: children) {
-            num += child.size();
+        int num = 0;
+        ArrayDeque<MCTSNode> queue = new ArrayDeque<MCTSNode>();
+        queue.add(this);
+
+        while (!queue.isEmpty()) {
+            MCTSNode current = queue.remove();
+            num++;
+            queue.addAll(current.children);
         }
         return num;
     }
@@ -662,7 +662,7 @@ public class HumanPlayer extends PlayerImpl {
     }
 
     private void removeAttackerIfPossible(Game game, Permanent attacker) {
-        for (Map.Entry entry : game.getContinuousEffects().getApplicableRequirementEffects(attacker, game).entrySet()) {
+        for (Map.Entry entry : game.getCombat().getRequirementEffects(attacker, game).entrySet()) {
             RequirementEffect effect = (RequirementEffect)entry.getKey();
             if (effect.mustAttack(game)) {
                 if (game.getCombat().getMaxAttackers() >= game.getCombat().getCreaturesForcedToAttack().size() && game.getCombat().getDefenders().size() == 1) {
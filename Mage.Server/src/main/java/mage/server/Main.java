@@ -44,6 +44,7 @@ import mage.server.util.ServerMessagesUtil;
 import mage.server.util.SystemUtil;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
+import mage.util.Copier;
 import mage.utils.MageVersion;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.*;
@@ -132,6 +133,8 @@ public class Main {
         for (Plugin plugin: config.getDeckTypes()) {
             DeckValidatorFactory.getInstance().addDeckType(plugin.getName(), loadPlugin(plugin));
         }
+        // saved game states are restored with the plugin classes
+        Copier.setLoader(classLoader);
 
         logger.info("Config - max seconds idle: " + config.getMaxSecondsIdle());
         logger.info("Config - max game threads: " + config.getMaxGameThreads());
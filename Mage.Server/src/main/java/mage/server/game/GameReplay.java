@@ -65,16 +65,27 @@ public class GameReplay {
         this.stateIndex = 0;
     }
 
+    /**
+     * States dropped from the history of the game are skipped
+     *
+     * @return the next saved state or null at the end of the game
+     */
     public GameState next() {
-        if (this.stateIndex < savedGame.getSize()) {
-            return savedGame.get(stateIndex++);
+        while (this.stateIndex < savedGame.getSize()) {
+            GameState state = savedGame.get(stateIndex++);
+            if (state != null) {
+                return state;
+            }
         }
         return null;
     }
 
     public GameState previous() {
-        if (this.stateIndex > 0) {
-            return savedGame.get(--stateIndex);
+        while (this.stateIndex > 0) {
+            GameState state = savedGame.get(--stateIndex);
+            if (state != null) {
+                return state;
+            }
         }
         return null;
     }
@@ -52,9 +52,14 @@ public class ReplaySession implements GameCallback {
 
     public void replay() {
         replay.start();
+        GameState state = replay.next();
+        if (state == null) {
+            gameResult("no saved game states");
+            return;
+        }
         User user = UserManager.getInstance().getUser(userId);
         if (user != null) {
-            user.fireCallback(new ClientCallback("replayInit", replay.getGame().getId(), new GameView(replay.next(), replay.getGame(), null)));
+            user.fireCallback(new ClientCallback("replayInit", replay.getGame().getId(), new GameView(state, replay.getGame(), null)));
         }
     }
 
@@ -0,0 +1,116 @@
+package org.mage.test.combat;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Test requirements to block and creatures that can't block with several
+ * possible blockers.
+ *
+ * @author agent
+ */
+public class BlockRequirementsTest extends CardTestPlayerBase {
+
+    /**
+     * Lure: All creatures able to block enchanted creature do so.
+     * Hulking Goblin can't block.
+     */
+    @Test
+    public void testLure() {
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Craw Wurm"); // 6/4
+        addCard(Zone.HAND, playerB, "Lure");
+
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion"); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears"); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Hulking Goblin"); // 2/2
+
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Lure", "Craw Wurm");
+        attack(2, playerB, "Craw Wurm");
+
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerA, 20);
+        assertPermanentCount(playerB, "Craw Wurm", 0);
+        assertPermanentCount(playerA, "Silvercoat Lion", 0);
+        assertPermanentCount(playerA, "Grizzly Bears", 0);
+        assertPermanentCount(playerA, "Hulking Goblin", 1);
+    }
+
+    /**
+     * Prized Unicorn: All creatures able to block Prized Unicorn do so.
+     * Hulking Goblin can't block.
+     */
+    @Test
+    public void testMustBeBlockedByAll() {
+        addCard(Zone.BATTLEFIELD, playerB, "Prized Unicorn"); // 2/2
+
+        addCard(Zone.BATTLEFIELD, playerA, "Hulking Goblin"); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion"); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Hill Giant"); // 3/3
+
+        attack(2, playerB, "Prized Unicorn");
+
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerA, 20);
+        assertPermanentCount(playerB, "Prized Unicorn", 0);
+        assertPermanentCount(playerA, "Hulking Goblin", 1);
+        assertPermanentCount(playerA, "Hill Giant", 1);
+    }
+
+    /**
+     * Deadly Allure: Target creature gains deathtouch until end of turn and must
+     * be blocked this turn if able.
+     * Hulking Goblin can't block, so the other creature has to block.
+     */
+    @Test
+    public void testMustBeBlockedByAtLeastOne() {
+        addCard(Zone.BATTLEFIELD, playerB, "Swamp");
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant"); // 3/3
+        addCard(Zone.HAND, playerB, "Deadly Allure");
+
+        addCard(Zone.BATTLEFIELD, playerA, "Hulking Goblin"); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion"); // 2/2
+
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Deadly Allure", "Hill Giant");
+        attack(2, playerB, "Hill Giant");
+
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerA, 20);
+        assertPermanentCount(playerB, "Hill Giant", 1);
+        assertPermanentCount(playerA, "Silvercoat Lion", 0);
+        assertPermanentCount(playerA, "Hulking Goblin", 1);
+    }
+
+    /**
+     * Several blockers are declared, the one that can't block is not added.
+     */
+    @Test
+    public void testCantBlockWithSeveralBlockers() {
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant"); // 3/3
+
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion"); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Hulking Goblin"); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears"); // 2/2
+
+        attack(2, playerB, "Hill Giant");
+        block(2, playerA, "Silvercoat Lion", "Hill Giant");
+        block(2, playerA, "Hulking Goblin", "Hill Giant");
+        block(2, playerA, "Grizzly Bears", "Hill Giant");
+
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerA, 20);
+        assertPermanentCount(playerB, "Hill Giant", 0);
+        assertPermanentCount(playerA, "Hulking Goblin", 1);
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The continuous effects are only recalculated if something happened since
+ * they were applied the last time.
+ *
+ * @author agent
+ */
+public class ApplyEffectsTest extends CardTestPlayerBase {
+
+    @Test
+    public void testUnchangedStateKeepsEffects() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertPowerToughness(playerA, "Grizzly Bears", 3, 3);
+
+        currentGame.applyEffects();
+        Assert.assertFalse(currentGame.getState().isEffectsDirty());
+        currentGame.applyEffects();
+        assertPowerToughness(playerA, "Grizzly Bears", 3, 3);
+
+        currentGame.getState().setEffectsDirty();
+        currentGame.applyEffects();
+        assertPowerToughness(playerA, "Grizzly Bears", 3, 3);
+    }
+
+    @Test
+    public void testRemovedEffectSource() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem");
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.HAND, playerA, "Naturalize");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Naturalize", "Glorious Anthem");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertGraveyardCount(playerA, "Glorious Anthem", 1);
+        assertPowerToughness(playerA, "Grizzly Bears", 2, 2);
+    }
+
+    @Test
+    public void testCopiedStateKeepsEffects() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        currentGame.applyEffects();
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+        Game sim = currentGame.copy();
+        Assert.assertFalse(sim.getState().isEffectsDirty());
+        sim.applyEffects();
+        Permanent simBears = sim.getPermanent(bears.getId());
+        Assert.assertEquals(3, simBears.getPower().getValue());
+        Assert.assertEquals(3, simBears.getToughness().getValue());
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.mage.test.serverside;
+
+import java.util.List;
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The battlefield indexes the permanents by controller and phasing.
+ * The queries have to follow control changes, type changes and phasing.
+ *
+ * @author agent
+ */
+public class BattlefieldIndexTest extends CardTestPlayerBase {
+
+    @Test
+    public void testControlChange() {
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 5);
+        addCard(Zone.HAND, playerA, "Mind Control");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Mind Control", "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        Permanent lion = getPermanent("Silvercoat Lion", playerA.getId());
+        Assert.assertTrue(currentGame.getBattlefield().getAllActivePermanents(playerA.getId()).contains(lion));
+        Assert.assertFalse(currentGame.getBattlefield().getAllActivePermanents(playerB.getId()).contains(lion));
+    }
+
+    @Test
+    public void testTypeChange() {
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 4);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring");
+        addCard(Zone.HAND, playerA, "March of the Machines");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "March of the Machines");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        Permanent solRing = getPermanent("Sol Ring", playerA.getId());
+        Assert.assertTrue(currentGame.getBattlefield().getAllActivePermanents(CardType.CREATURE).contains(solRing));
+        Assert.assertTrue(currentGame.getBattlefield().getAllActivePermanents(CardType.ARTIFACT).contains(solRing));
+    }
+
+    @Test
+    public void testTypeChangeEnds() {
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 4);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring");
+        addCard(Zone.HAND, playerA, "March of the Machines");
+        addCard(Zone.HAND, playerA, "Naturalize");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "March of the Machines");
+        castSpell(1, PhaseStep.POSTCOMBAT_MAIN, playerA, "Naturalize", "March of the Machines");
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerA, "March of the Machines", 1);
+        Permanent solRing = getPermanent("Sol Ring", playerA.getId());
+        Assert.assertFalse(currentGame.getBattlefield().getAllActivePermanents(CardType.CREATURE).contains(solRing));
+        Assert.assertTrue(currentGame.getBattlefield().getAllActivePermanents(CardType.ARTIFACT).contains(solRing));
+    }
+
+    /**
+     * Teferi's Drake phases out in the untap step of turn 1 and phases in
+     * again in the untap step of turn 3.
+     */
+    @Test
+    public void testPhasing() {
+        addCard(Zone.BATTLEFIELD, playerA, "Teferi's Drake");
+
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        List<Permanent> phasedOut = currentGame.getBattlefield().getPhasedOut(playerA.getId());
+        Assert.assertEquals(1, phasedOut.size());
+        Assert.assertFalse(currentGame.getBattlefield().getAllActivePermanents().contains(phasedOut.get(0)));
+        Assert.assertFalse(currentGame.getBattlefield().getAllActivePermanents(playerA.getId()).contains(phasedOut.get(0)));
+    }
+
+    @Test
+    public void testPhasingIn() {
+        addCard(Zone.BATTLEFIELD, playerA, "Teferi's Drake");
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Assert.assertTrue(currentGame.getBattlefield().getPhasedOut(playerA.getId()).isEmpty());
+        Permanent drake = getPermanent("Teferi's Drake", playerA.getId());
+        Assert.assertTrue(currentGame.getBattlefield().getAllActivePermanents(playerA.getId()).contains(drake));
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The AI compares simulated game states by their value hash.
+ *
+ * @author agent
+ */
+public class GameStateValueHashTest extends CardTestPlayerBase {
+
+    @Test
+    public void testCopyHasSameHash() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        Game copy = currentGame.copy();
+        Assert.assertEquals(currentGame.getState().getValueHash(true, currentGame), copy.getState().getValueHash(true, copy));
+        Assert.assertEquals(currentGame.getState().getValueHash(false, currentGame), copy.getState().getValueHash(false, copy));
+    }
+
+    @Test
+    public void testChangedPermanentChangesHash() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        long hash = currentGame.getState().getValueHash(false, currentGame);
+        Permanent bears = getPermanent("Grizzly Bears", playerA.getId());
+        bears.tap(currentGame);
+        Assert.assertNotEquals(hash, currentGame.getState().getValueHash(false, currentGame));
+        bears.untap(currentGame);
+        Assert.assertEquals(hash, currentGame.getState().getValueHash(false, currentGame));
+
+        bears.damage(1, bears.getId(), currentGame, false, true);
+        Assert.assertNotEquals(hash, currentGame.getState().getValueHash(false, currentGame));
+    }
+
+}
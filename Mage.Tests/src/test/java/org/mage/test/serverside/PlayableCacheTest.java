@@ -0,0 +1,61 @@
+package org.mage.test.serverside;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import mage.abilities.Ability;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The playable abilities are cached as long as the version of the game state
+ * doesn't change. The abilities are checked without a copy as long as their
+ * costs don't have to be modified.
+ *
+ * @author agent
+ */
+public class PlayableCacheTest extends CardTestPlayerBase {
+
+    @Test
+    public void testPlayableUpdatedAfterChange() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        long version = currentGame.getState().getVersion();
+        List<Ability> playable = playerA.getPlayable(currentGame, true);
+        Assert.assertEquals(playable, playerA.getPlayable(currentGame, true));
+        Set<UUID> playableInHand = playerA.getPlayableInHand(currentGame);
+        Assert.assertEquals(1, playableInHand.size());
+        Assert.assertEquals(version, currentGame.getState().getVersion());
+
+        Permanent mountain = getPermanent("Mountain", playerA.getId());
+        mountain.tap(currentGame);
+        Assert.assertTrue("Tapping has to change the version", version != currentGame.getState().getVersion());
+        Assert.assertEquals(0, playerA.getPlayableInHand(currentGame).size());
+    }
+
+    @Test
+    public void testCostReductionDoesNotChangeAbility() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        // Instant and sorcery spells you cast cost {1} less to cast.
+        addCard(Zone.BATTLEFIELD, playerA, "Goblin Electromancer");
+        addCard(Zone.HAND, playerA, "Searing Spear");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        Assert.assertEquals(1, playerA.getPlayableInHand(currentGame).size());
+        Card searingSpear = playerA.getHand().getCards(currentGame).iterator().next();
+        Assert.assertEquals("{1}{R}", searingSpear.getSpellAbility().getManaCostsToPay().getText());
+        Assert.assertFalse(searingSpear.getSpellAbility().isCheckPlayableMode());
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.mage.test.serverside;
+
+import java.util.Set;
+import java.util.UUID;
+import mage.ObjectColor;
+import mage.abilities.Ability;
+import mage.abilities.effects.ContinuousEffect;
+import mage.abilities.effects.common.continious.GainAbilityTargetEffect;
+import mage.abilities.keyword.ShroudAbility;
+import mage.constants.Duration;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.common.FilterCreaturePermanent;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.game.permanent.Permanent;
+import mage.target.Target;
+import mage.target.common.TargetCreaturePermanent;
+import mage.target.targetpointer.FixedTarget;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The possible targets are cached in the game state, the cache has to be
+ * rebuilt if the filter, the applied continuous effects or the chosen targets
+ * change, also if the version of the state stays the same.
+ *
+ * @author agent
+ */
+public class PossibleTargetsCacheTest extends CardTestPlayerBase {
+
+    private void createBoard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+    }
+
+    private UUID getSourceId() {
+        return getPermanent("Mountain", playerA.getId()).getId();
+    }
+
+    @Test
+    public void testRebuiltAfterFilterChanged() {
+        createBoard();
+        FilterCreaturePermanent filter = new FilterCreaturePermanent();
+        Target target = new TargetCreaturePermanent(filter);
+        Assert.assertEquals(2, target.possibleTargets(getSourceId(), playerA.getId(), currentGame).size());
+
+        long version = currentGame.getState().getVersion();
+        filter.add(new ColorPredicate(ObjectColor.WHITE));
+        Assert.assertEquals(version, currentGame.getState().getVersion());
+        Set<UUID> possibleTargets = target.possibleTargets(getSourceId(), playerA.getId(), currentGame);
+        Assert.assertEquals(1, possibleTargets.size());
+        Assert.assertTrue(possibleTargets.contains(getPermanent("Silvercoat Lion", playerB.getId()).getId()));
+    }
+
+    @Test
+    public void testRebuiltAfterCreatureGainedShroud() {
+        createBoard();
+        Permanent bears = getPermanent("Grizzly Bears", playerB.getId());
+        Target target = new TargetCreaturePermanent();
+        Assert.assertEquals(2, target.possibleTargets(getSourceId(), playerA.getId(), currentGame).size());
+
+        // like an effect that adds a continuous effect and checks the targets before and after applying it
+        ContinuousEffect effect = new GainAbilityTargetEffect(ShroudAbility.getInstance(), Duration.EndOfTurn);
+        effect.setTargetPointer(new FixedTarget(bears.getId()));
+        Ability source = getPermanent("Mountain", playerA.getId()).getAbilities().iterator().next();
+        currentGame.addEffect(effect, source);
+        Assert.assertEquals(2, target.possibleTargets(getSourceId(), playerA.getId(), currentGame).size());
+        Assert.assertTrue(target.canChoose(getSourceId(), playerA.getId(), currentGame));
+
+        long version = currentGame.getState().getVersion();
+        currentGame.applyEffects();
+        Assert.assertEquals(version, currentGame.getState().getVersion());
+        Assert.assertTrue(bears.hasAbility(ShroudAbility.getInstance().getId(), currentGame));
+        Set<UUID> possibleTargets = target.possibleTargets(getSourceId(), playerA.getId(), currentGame);
+        Assert.assertEquals(1, possibleTargets.size());
+        Assert.assertFalse(possibleTargets.contains(bears.getId()));
+    }
+
+    @Test
+    public void testChosenTargetsNotPossible() {
+        createBoard();
+        Permanent bears = getPermanent("Grizzly Bears", playerB.getId());
+        Target target = new TargetCreaturePermanent(0, 2);
+        Assert.assertEquals(2, target.possibleTargets(getSourceId(), playerA.getId(), currentGame).size());
+
+        target.add(bears.getId(), currentGame);
+        Set<UUID> possibleTargets = target.possibleTargets(getSourceId(), playerA.getId(), currentGame);
+        Assert.assertEquals(1, possibleTargets.size());
+        Assert.assertFalse(possibleTargets.contains(bears.getId()));
+
+        // a copy with other chosen targets uses the same cached targets
+        Target copy = target.copy();
+        copy.clearChosen();
+        Assert.assertEquals(2, copy.possibleTargets(getSourceId(), playerA.getId(), currentGame).size());
+        Assert.assertEquals(1, target.possibleTargets(getSourceId(), playerA.getId(), currentGame).size());
+    }
+
+}
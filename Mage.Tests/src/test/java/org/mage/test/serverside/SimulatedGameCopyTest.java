@@ -0,0 +1,70 @@
+package org.mage.test.serverside;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.UUID;
+import mage.cards.Card;
+import mage.cards.repository.CardRepository;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.stack.Spell;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Copies of simulated games share the cards of the game they were copied
+ * from until a card is accessed. Cards that are referenced by a game are never
+ * shared.
+ *
+ * @author agent
+ */
+public class SimulatedGameCopyTest extends CardTestPlayerBase {
+
+    @Test
+    public void testCardsCopiedOnFirstAccess() {
+        Card original = currentGame.getCards().iterator().next();
+        UUID cardId = original.getId();
+        Assert.assertFalse(original.isFaceDown());
+
+        currentGame.setSimulation(true);
+        Game sim = currentGame.copy();
+
+        Card simCard = sim.getCard(cardId);
+        Assert.assertNotSame("Card of the simulation has to be a copy", original, simCard);
+        Assert.assertSame("Card is only copied once", simCard, sim.getCard(cardId));
+
+        simCard.setFaceDown(true);
+        Assert.assertFalse("Source game must not be changed", currentGame.getCard(cardId).isFaceDown());
+
+        Game sim2 = sim.copy();
+        Assert.assertTrue("Changes are copied to the next simulation", sim2.getCard(cardId).isFaceDown());
+        sim2.getCard(cardId).setFaceDown(false);
+        Assert.assertTrue("Parent simulation must not be changed", sim.getCard(cardId).isFaceDown());
+
+        Assert.assertEquals(currentGame.getCards().size(), sim2.getCards().size());
+    }
+
+    @Test
+    public void testCardHeldBySpellIsNotShared() {
+        // the decks of the test players only contain lands
+        Card card = CardRepository.instance.findCard("Lightning Bolt").getCard();
+        currentGame.loadCards(new HashSet<>(Arrays.asList(card)), playerA.getId());
+        UUID cardId = card.getId();
+
+        currentGame.setSimulation(true);
+        Game sim = currentGame.copy();
+        Card simCard = sim.getCard(cardId);
+        Spell spell = new Spell(simCard, simCard.getSpellAbility().copy(), simCard.getOwnerId(), Zone.HAND);
+
+        Game sim2 = sim.copy();
+        Assert.assertSame("Copy must not replace the card of the source game", simCard, sim.getCard(cardId));
+
+        spell.getCard().setFaceDown(true);
+        Assert.assertTrue(sim.getCard(cardId).isFaceDown());
+        Assert.assertFalse("Copy must not be changed by the spell of the source game", sim2.getCard(cardId).isFaceDown());
+        Game sim3 = sim2.copy();
+        Assert.assertFalse(sim3.getCard(cardId).isFaceDown());
+    }
+
+}
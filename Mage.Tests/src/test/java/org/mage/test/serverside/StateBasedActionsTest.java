@@ -0,0 +1,83 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * The state based actions are only checked if the version of the game state
+ * changed since the last check that found nothing to do. Things that change
+ * the result of the check after such a check must not be skipped.
+ *
+ * @author agent
+ */
+public class StateBasedActionsTest extends CardTestPlayerBase {
+
+    /**
+     * The damage of the giant is not lethal while the anthem is on the
+     * battlefield, it becomes lethal as the anthem leaves.
+     */
+    @Test
+    public void testAnthemLeaves() {
+        addCard(Zone.BATTLEFIELD, playerA, "Hill Giant");
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem");
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain");
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 2);
+        addCard(Zone.HAND, playerB, "Lightning Bolt");
+        addCard(Zone.HAND, playerB, "Naturalize");
+
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Lightning Bolt", "Hill Giant");
+        castSpell(2, PhaseStep.POSTCOMBAT_MAIN, playerB, "Naturalize", "Glorious Anthem");
+
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerB, "Lightning Bolt", 1);
+        assertGraveyardCount(playerA, "Glorious Anthem", 1);
+        assertGraveyardCount(playerA, "Hill Giant", 1);
+    }
+
+    /**
+     * The -1/-1 counters of the blocking creature with wither only leave a
+     * 0/0 creature as the boost of Giant Growth ends in the cleanup step.
+     */
+    @Test
+    public void testEndOfTurnBoostEndsOnCreatureWithCounters() {
+        addCard(Zone.BATTLEFIELD, playerA, "Hill Giant");
+        addCard(Zone.BATTLEFIELD, playerA, "Forest");
+        addCard(Zone.HAND, playerA, "Giant Growth");
+        addCard(Zone.BATTLEFIELD, playerB, "Wildslayer Elves");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Giant Growth", "Hill Giant");
+        attack(1, playerA, "Hill Giant");
+        block(1, playerB, "Wildslayer Elves", "Hill Giant");
+
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        assertGraveyardCount(playerB, "Wildslayer Elves", 1);
+        assertGraveyardCount(playerA, "Hill Giant", 1);
+    }
+
+    /**
+     * The combat damage of a creature with wither is marked and the -1/-1
+     * counters are put on the blocked creature after all combat damage was
+     * dealt, without a damage event.
+     */
+    @Test
+    public void testMarkedDamageApplied() {
+        addCard(Zone.BATTLEFIELD, playerA, "Wildslayer Elves");
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant");
+
+        attack(1, playerA, "Wildslayer Elves");
+        block(1, playerB, "Hill Giant", "Wildslayer Elves");
+
+        setStopAt(1, PhaseStep.END_COMBAT);
+        execute();
+
+        assertGraveyardCount(playerA, "Wildslayer Elves", 1);
+        assertGraveyardCount(playerB, "Hill Giant", 1);
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.mage.test.serverside.performance;
+
+import mage.ObjectColor;
+import mage.constants.PhaseStep;
+import mage.constants.TargetController;
+import mage.constants.Zone;
+import mage.filter.Filter;
+import mage.filter.common.FilterCreaturePermanent;
+import mage.filter.predicate.Predicates;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.mageobject.PowerPredicate;
+import mage.filter.predicate.permanent.ControllerPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.filter.predicate.permanent.TokenPredicate;
+import mage.game.permanent.Permanent;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures FilterPermanent.match for all permanents of a board with 100 permanents.
+ *
+ * @author agent
+ */
+@Ignore
+public class FilterPermanentPerformanceTest extends CardTestPlayerBase {
+
+    private static final int WARMUP_ITERATIONS = 2000;
+    private static final int ITERATIONS = 20000;
+
+    @Test
+    public void testMatch() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 20);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 30);
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 20);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 30);
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        FilterCreaturePermanent filter = new FilterCreaturePermanent("untapped nontoken green creature with power 2 or greater you control");
+        filter.add(Predicates.not(new TappedPredicate()));
+        filter.add(Predicates.not(new TokenPredicate()));
+        filter.add(new PowerPredicate(Filter.ComparisonType.GreaterThan, 1));
+        filter.add(new ColorPredicate(ObjectColor.GREEN));
+        filter.add(new ControllerPredicate(TargetController.YOU));
+
+        int matches = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            matches += matchAll(filter);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            matches += matchAll(filter);
+        }
+        long duration = System.nanoTime() - start;
+        int permanents = currentGame.getBattlefield().getAllPermanents().size();
+        System.out.println("FilterPermanent.match: " + (duration / ((long) ITERATIONS * permanents)) + " ns/op"
+                + " (" + permanents + " permanents, " + matches + " matches)");
+    }
+
+    private int matchAll(FilterCreaturePermanent filter) {
+        int matches = 0;
+        for (Permanent permanent: currentGame.getBattlefield().getAllPermanents()) {
+            if (filter.match(permanent, null, playerA.getId(), currentGame)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.mage.test.serverside.performance;
+
+import mage.Mana;
+import mage.abilities.mana.ManaOptions;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures getPlayable and the mana options with a five color mana base of
+ * dual lands.
+ *
+ * @author agent
+ */
+@Ignore
+public class ManaOptionsPerformanceTest extends CardTestPlayerBase {
+
+    private static final String[] DUAL_LANDS = {"Plateau", "Savannah", "Scrubland", "Taiga", "Tundra",
+        "Underground Sea", "Volcanic Island", "Bayou", "Badlands", "Tropical Island"};
+
+    private static final int ITERATIONS = 200;
+
+    @Test
+    public void testDualLands() {
+        for (String land: DUAL_LANDS) {
+            addCard(Zone.BATTLEFIELD, playerA, land, 2);
+        }
+        addCard(Zone.BATTLEFIELD, playerA, "City of Brass", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+        addCard(Zone.HAND, playerA, "Naturalize");
+        addCard(Zone.HAND, playerA, "Silvercoat Lion");
+        addCard(Zone.HAND, playerA, "Mind Control");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        int playable = 0;
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            playable += playerA.getPlayable(currentGame, true).size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            playable += playerA.getPlayable(currentGame, true).size();
+        }
+        long duration = System.nanoTime() - start;
+        System.out.println("getPlayable with " + (DUAL_LANDS.length * 2) + " dual lands: " + (duration / ITERATIONS / 1000) + " us/op (" + playable + ')');
+    }
+
+    @Test
+    public void testAddMana() {
+        // the two colors of the ten dual lands
+        Mana[] colors = {Mana.WhiteMana(1), Mana.BlueMana(1), Mana.BlackMana(1), Mana.RedMana(1), Mana.GreenMana(1)};
+        int[][] lands = {{0, 3}, {0, 4}, {0, 2}, {3, 4}, {0, 1}, {1, 2}, {1, 3}, {2, 4}, {2, 3}, {1, 4}};
+        ManaOptions[] sources = new ManaOptions[lands.length];
+        for (int i = 0; i < lands.length; i++) {
+            sources[i] = new ManaOptions();
+            sources[i].add(colors[lands[i][0]].copy());
+            sources[i].add(colors[lands[i][1]].copy());
+        }
+        int options = 0;
+        for (int i = 0; i < ITERATIONS * 10; i++) {
+            options += addMana(sources).size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS * 10; i++) {
+            options += addMana(sources).size();
+        }
+        long duration = System.nanoTime() - start;
+        System.out.println("ManaOptions.addMana of " + lands.length + " dual lands: " + (duration / ITERATIONS / 10 / 1000) + " us/op (" + options + ')');
+    }
+
+    private ManaOptions addMana(ManaOptions[] sources) {
+        ManaOptions available = new ManaOptions();
+        for (ManaOptions source: sources) {
+            available.addMana(source);
+        }
+        return available;
+    }
+
+}
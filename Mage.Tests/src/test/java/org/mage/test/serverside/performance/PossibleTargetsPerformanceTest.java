@@ -0,0 +1,57 @@
+package org.mage.test.serverside.performance;
+
+import java.util.UUID;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.target.Target;
+import mage.target.common.TargetCreaturePermanent;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures the possible targets and canChoose of targets that are copied
+ * at the same game state (like the AI does) with many creatures on the
+ * battlefield.
+ *
+ * @author agent
+ */
+@Ignore
+public class PossibleTargetsPerformanceTest extends CardTestPlayerBase {
+
+    private static final int ITERATIONS = 2000;
+
+    @Test
+    public void testManyCreatures() {
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 20);
+        addCard(Zone.BATTLEFIELD, playerA, "Troll Ascetic", 20);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 20);
+        addCard(Zone.BATTLEFIELD, playerB, "Troll Ascetic", 20);
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        UUID sourceId = currentGame.getBattlefield().getAllActivePermanents(playerA.getId()).get(0).getId();
+        Target target = new TargetCreaturePermanent(0, Integer.MAX_VALUE);
+        int count = 0;
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            count += target.copy().possibleTargets(sourceId, playerA.getId(), currentGame).size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            count += target.copy().possibleTargets(sourceId, playerA.getId(), currentGame).size();
+        }
+        long duration = System.nanoTime() - start;
+        System.out.println("possibleTargets of 80 creatures: " + (duration / ITERATIONS / 1000) + " us/op (" + count + ')');
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (target.copy().canChoose(sourceId, playerA.getId(), currentGame)) {
+                count++;
+            }
+        }
+        duration = System.nanoTime() - start;
+        System.out.println("canChoose of 80 creatures: " + (duration / ITERATIONS / 1000) + " us/op (" + count + ')');
+    }
+
+}
@@ -0,0 +1,199 @@
+package org.mage.test.serverside.performance;
+
+import mage.abilities.Ability;
+import mage.abilities.ActivatedAbility;
+import mage.cards.decks.Deck;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameOptions;
+import mage.game.TwoPlayerDuel;
+import mage.player.ai.ComputerPlayer7;
+import mage.player.ai.ComputerPlayerMCTS;
+import mage.player.ai.MCTSPlayer.NextAction;
+import mage.player.ai.SimulationNode2;
+import mage.players.Player;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures the nodes per second of a search like the AI players do it (copy
+ * the game, activate one playable ability and resolve the stack) for simulated
+ * and for live copies of the game, and the nodes per second the mad (MA) and
+ * the monte carlo (MCTS) players search in games against themselves.
+ *
+ * @author agent
+ */
+@Ignore
+public class SimulationPerformanceTest extends CardTestPlayerBase {
+
+    private static final long DURATION = 5000000000L;
+    private static final int GAMES = 3;
+    private static final int TURNS = 6;
+
+    private static final String[] DECK = {"Mountain", "Mountain", "Mountain", "Mountain", "Mountain", "Mountain", "Mountain", "Mountain",
+        "Forest", "Forest", "Forest", "Forest", "Forest", "Forest", "Forest", "Forest", "Forest",
+        "Grizzly Bears", "Grizzly Bears", "Llanowar Elves", "Llanowar Elves", "Lightning Bolt", "Lightning Bolt", "Shock",
+        "Hill Giant", "Hill Giant", "Giant Growth", "Giant Growth", "Craw Wurm", "Raging Goblin", "Raging Goblin",
+        "Glorious Anthem", "Prodigal Pyromancer", "Birds of Paradise", "Rampant Growth", "Serra Angel",
+        "Fireball", "Wall of Roots", "Mogg Fanatic", "Centaur Courser"};
+
+    // nodes and time of the searches of the AI players in the current games
+    private static long searchNodes;
+    private static long searchNanos;
+
+    @Test
+    public void testNodesPerSecond() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerA, "Hill Giant");
+        addCard(Zone.BATTLEFIELD, playerA, "Prodigal Pyromancer");
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+        addCard(Zone.HAND, playerA, "Shock");
+        addCard(Zone.HAND, playerA, "Giant Growth");
+        addCard(Zone.HAND, playerA, "Fireball");
+        addCard(Zone.HAND, playerA, "Silvercoat Lion");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // warm up
+        nodesPerSecond(true);
+        nodesPerSecond(false);
+        System.out.println("Simulated game: " + nodesPerSecond(true) + " nodes/s");
+        System.out.println("Live game: " + nodesPerSecond(false) + " nodes/s");
+    }
+
+    @Test
+    public void testMadPlayerNodesPerSecond() throws Exception {
+        // warm up
+        playGame(new MadPlayer("MadA"), new MadPlayer("MadB"));
+        searchNodes = 0;
+        searchNanos = 0;
+        for (int i = 0; i < GAMES; i++) {
+            playGame(new MadPlayer("MadA"), new MadPlayer("MadB"));
+        }
+        System.out.println("Mad player: " + searchNodes * 1000000000L / Math.max(searchNanos, 1) + " nodes/s (" + searchNodes + " nodes)");
+    }
+
+    @Test
+    public void testMonteCarloPlayerNodesPerSecond() throws Exception {
+        // warm up
+        playGame(new MonteCarloPlayer("MonteCarloA"), new MonteCarloPlayer("MonteCarloB"));
+        searchNodes = 0;
+        searchNanos = 0;
+        for (int i = 0; i < GAMES; i++) {
+            playGame(new MonteCarloPlayer("MonteCarloA"), new MonteCarloPlayer("MonteCarloB"));
+        }
+        System.out.println("Monte carlo player: " + searchNodes * 1000000000L / Math.max(searchNanos, 1) + " nodes/s (" + searchNodes + " nodes)");
+    }
+
+    private long nodesPerSecond(boolean simulation) {
+        long nodes = 0;
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < DURATION) {
+            Game game = currentGame.copy();
+            game.setSimulation(simulation);
+            Player player = game.getPlayer(playerA.getId());
+            for (Ability ability: player.getPlayable(game, true)) {
+                Game sim = game.copy();
+                sim.setSimulation(simulation);
+                if (sim.getPlayer(playerA.getId()).activateAbility((ActivatedAbility) ability.copy(), sim)) {
+                    sim.applyEffects();
+                    while (!sim.getStack().isEmpty()) {
+                        sim.getStack().getFirst().resolve(sim);
+                        sim.getStack().remove(sim.getStack().getFirst());
+                        sim.applyEffects();
+                        sim.checkStateAndTriggered();
+                    }
+                }
+                nodes++;
+            }
+        }
+        return nodes * 1000000000L / (System.nanoTime() - start);
+    }
+
+    private void playGame(Player playerA, Player playerB) throws Exception {
+        Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ALL, 0);
+        Deck deckA = createDeck();
+        game.loadCards(deckA.getCards(), playerA.getId());
+        game.addPlayer(playerA, deckA);
+        Deck deckB = createDeck();
+        game.loadCards(deckB.getCards(), playerB.getId());
+        game.addPlayer(playerB, deckB);
+
+        GameOptions options = new GameOptions();
+        options.testMode = false;
+        options.stopOnTurn = TURNS;
+        game.start(playerA.getId(), options);
+    }
+
+    private Deck createDeck() {
+        Deck deck = new Deck();
+        for (int i = 0; i < 2; i++) {
+            for (String cardName : DECK) {
+                CardInfo cardInfo = CardRepository.instance.findCard(cardName);
+                deck.getCards().add(cardInfo.getCard());
+            }
+        }
+        return deck;
+    }
+
+    private static class MadPlayer extends ComputerPlayer7 {
+
+        public MadPlayer(String name) {
+            super(name, RangeOfInfluence.ALL, 1);
+        }
+
+        public MadPlayer(final MadPlayer player) {
+            super(player);
+        }
+
+        @Override
+        public MadPlayer copy() {
+            return new MadPlayer(this);
+        }
+
+        @Override
+        protected Integer addActionsTimed() {
+            long start = System.nanoTime();
+            Integer result = super.addActionsTimed();
+            searchNanos += System.nanoTime() - start;
+            searchNodes += SimulationNode2.getCount();
+            return result;
+        }
+    }
+
+    private static class MonteCarloPlayer extends ComputerPlayerMCTS {
+
+        public MonteCarloPlayer(String name) {
+            super(name, RangeOfInfluence.ALL, 1);
+        }
+
+        public MonteCarloPlayer(final MonteCarloPlayer player) {
+            super(player);
+        }
+
+        @Override
+        public MonteCarloPlayer copy() {
+            return new MonteCarloPlayer(this);
+        }
+
+        @Override
+        protected void applyMCTS(Game game, NextAction action) {
+            int visits = root.getVisits();
+            long start = System.nanoTime();
+            super.applyMCTS(game, action);
+            searchNanos += System.nanoTime() - start;
+            searchNodes += root.getVisits() - visits;
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package org.mage.test.utils;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.function.Predicate;
+import mage.abilities.Abilities;
+import mage.abilities.AbilitiesImpl;
+import mage.abilities.Ability;
+import mage.abilities.keyword.FlyingAbility;
+import mage.abilities.keyword.HasteAbility;
+import mage.abilities.keyword.LifelinkAbility;
+import mage.abilities.keyword.ReachAbility;
+import mage.abilities.keyword.TrampleAbility;
+import mage.abilities.keyword.VigilanceAbility;
+import mage.abilities.mana.BlackManaAbility;
+import mage.abilities.mana.BlueManaAbility;
+import mage.abilities.mana.GreenManaAbility;
+import mage.abilities.mana.ManaAbility;
+import mage.abilities.mana.RedManaAbility;
+import mage.abilities.mana.WhiteManaAbility;
+import mage.constants.Zone;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The abilities are found by id and the views are reused until the list
+ * is changed.
+ *
+ * @author agent
+ */
+public class AbilitiesImplTest {
+
+    private Abilities<Ability> createAbilities() {
+        Abilities<Ability> abilities = new AbilitiesImpl<>();
+        abilities.add(FlyingAbility.getInstance());
+        abilities.add(TrampleAbility.getInstance());
+        abilities.add(VigilanceAbility.getInstance());
+        abilities.add(ReachAbility.getInstance());
+        abilities.add(LifelinkAbility.getInstance());
+        abilities.add(new WhiteManaAbility());
+        abilities.add(new BlueManaAbility());
+        abilities.add(new BlackManaAbility());
+        abilities.add(new RedManaAbility());
+        return abilities;
+    }
+
+    @Test
+    public void testFindById() {
+        Abilities<Ability> abilities = createAbilities();
+        for (Ability ability: abilities) {
+            Assert.assertSame(ability, abilities.get(ability.getId()));
+            Assert.assertTrue(abilities.containsKey(ability.getId()));
+            Assert.assertTrue(abilities.contains(ability));
+        }
+        Assert.assertFalse(abilities.containsKey(HasteAbility.getInstance().getId()));
+
+        Ability green = new GreenManaAbility();
+        Assert.assertNull(abilities.get(green.getId()));
+        abilities.add(green);
+        Assert.assertSame(green, abilities.get(green.getId()));
+
+        abilities.remove(green);
+        Assert.assertFalse(abilities.containsKey(green.getId()));
+    }
+
+    @Test
+    public void testNewId() {
+        Abilities<Ability> abilities = createAbilities();
+        Ability white = abilities.get(5);
+        Assert.assertTrue(abilities.containsKey(white.getId()));
+        abilities.newId();
+        Assert.assertSame(white, abilities.get(white.getId()));
+    }
+
+    @Test
+    public void testViews() {
+        Abilities<Ability> abilities = createAbilities();
+        Abilities<ManaAbility> manaAbilities = abilities.getManaAbilities(Zone.BATTLEFIELD);
+        Assert.assertEquals(4, manaAbilities.size());
+        Assert.assertSame("View is reused", manaAbilities, abilities.getManaAbilities(Zone.BATTLEFIELD));
+        Assert.assertEquals(0, abilities.getManaAbilities(Zone.HAND).size());
+
+        abilities.add(new GreenManaAbility());
+        Assert.assertEquals("View is rebuilt after a change", 5, abilities.getManaAbilities(Zone.BATTLEFIELD).size());
+        Assert.assertEquals(4, manaAbilities.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testViewCantBeModified() {
+        createAbilities().getManaAbilities(Zone.BATTLEFIELD).add(new GreenManaAbility());
+    }
+
+    @Test
+    public void testViewCantBeModifiedIndirectly() {
+        Abilities<Ability> abilities = createAbilities();
+        Abilities<ManaAbility> view = abilities.getManaAbilities(Zone.BATTLEFIELD);
+        try {
+            Iterator<ManaAbility> iterator = view.iterator();
+            iterator.next();
+            iterator.remove();
+            Assert.fail("iterator().remove()");
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            ListIterator<ManaAbility> iterator = view.listIterator();
+            iterator.next();
+            iterator.set(new GreenManaAbility());
+            Assert.fail("listIterator().set()");
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            view.subList(0, 2).clear();
+            Assert.fail("subList().clear()");
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            view.subList(0, 2).set(0, new GreenManaAbility());
+            Assert.fail("subList().set()");
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            view.removeIf(new Predicate<ManaAbility>() {
+                @Override
+                public boolean test(ManaAbility ability) {
+                    return true;
+                }
+            });
+            Assert.fail("removeIf()");
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            view.retainAll(view.subList(0, 1));
+            Assert.fail("retainAll()");
+        } catch (UnsupportedOperationException e) {
+        }
+        Assert.assertSame(view, abilities.getManaAbilities(Zone.BATTLEFIELD));
+        Assert.assertEquals(4, view.size());
+        Assert.assertFalse(view.get(0) instanceof GreenManaAbility);
+    }
+
+}
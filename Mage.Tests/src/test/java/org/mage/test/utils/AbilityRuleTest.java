@@ -0,0 +1,83 @@
+package org.mage.test.utils;
+
+import mage.abilities.Ability;
+import mage.abilities.Mode;
+import mage.abilities.common.SimpleActivatedAbility;
+import mage.abilities.costs.common.TapSourceCost;
+import mage.abilities.effects.Effect;
+import mage.abilities.effects.common.DestroyTargetEffect;
+import mage.abilities.effects.common.DrawCardSourceControllerEffect;
+import mage.abilities.effects.common.GainLifeEffect;
+import mage.constants.Zone;
+import mage.target.Target;
+import mage.target.common.TargetArtifactPermanent;
+import mage.target.common.TargetCreaturePermanent;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The rule of an ability is cached and built again if the ability or its
+ * costs, modes, effects or targets are changed.
+ *
+ * @author agent
+ */
+public class AbilityRuleTest {
+
+    @Test
+    public void testRuleIsBuiltAgain() {
+        Effect effect = new GainLifeEffect(1);
+        Ability ability = new SimpleActivatedAbility(Zone.BATTLEFIELD, effect, new TapSourceCost());
+        String rule = ability.getRule();
+        Assert.assertSame("Rule is cached", rule, ability.getRule());
+        Assert.assertEquals(rule, ability.copy().getRule());
+
+        effect.setText("you gain 1 life for each card");
+        Assert.assertEquals("{T}: You gain 1 life for each card.", ability.getRule());
+
+        ability.addEffect(new DrawCardSourceControllerEffect(1));
+        Assert.assertTrue(ability.getRule().contains("draw a card"));
+    }
+
+    @Test
+    public void testNumberOfTargetsChanged() {
+        Target target = new TargetCreaturePermanent();
+        Ability ability = new SimpleActivatedAbility(Zone.BATTLEFIELD, new DestroyTargetEffect(), new TapSourceCost());
+        ability.addTarget(target);
+        Assert.assertEquals("{T}: Destroy target creature.", ability.getRule());
+
+        Ability copy = ability.copy();
+        copy.getTargets().get(0).setMinNumberOfTargets(2);
+        copy.getTargets().get(0).setMaxNumberOftargets(2);
+        Assert.assertEquals("{T}: Destroy two target creature.", copy.getRule());
+        Assert.assertEquals("{T}: Destroy target creature.", ability.getRule());
+    }
+
+    @Test
+    public void testTargetReplaced() {
+        Ability ability = new SimpleActivatedAbility(Zone.BATTLEFIELD, new DestroyTargetEffect(), new TapSourceCost());
+        ability.addTarget(new TargetCreaturePermanent());
+        Assert.assertEquals("{T}: Destroy target creature.", ability.getRule());
+
+        // like the adjustTargets of a card that replaces its target
+        Ability copy = ability.copy();
+        copy.getTargets().clear();
+        copy.addTarget(new TargetArtifactPermanent());
+        Assert.assertEquals("{T}: Destroy target artifact.", copy.getRule());
+
+        copy.getTargets().set(0, new TargetCreaturePermanent());
+        Assert.assertEquals("{T}: Destroy target creature.", copy.getRule());
+    }
+
+    @Test
+    public void testNumberOfModesChanged() {
+        Ability ability = new SimpleActivatedAbility(Zone.BATTLEFIELD, new GainLifeEffect(1), new TapSourceCost());
+        Mode mode = new Mode();
+        mode.getEffects().add(new DrawCardSourceControllerEffect(1));
+        ability.addMode(mode);
+        Assert.assertTrue(ability.getRule().contains("Choose one - "));
+
+        ability.getModes().setMaxModes(2);
+        Assert.assertTrue(ability.getRule().contains("Choose one or both - "));
+    }
+
+}
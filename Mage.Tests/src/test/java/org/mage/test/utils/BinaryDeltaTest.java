@@ -0,0 +1,50 @@
+package org.mage.test.utils;
+
+import java.util.Arrays;
+import java.util.Random;
+import mage.util.BinaryDelta;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class BinaryDeltaTest {
+
+    @Test
+    public void testEncodeDecode() {
+        Random random = new Random(42);
+        byte[] base = new byte[10000];
+        random.nextBytes(base);
+
+        // changed, inserted and removed bytes
+        byte[] target = new byte[base.length + 5];
+        System.arraycopy(base, 0, target, 0, 3000);
+        target[3000] = 1;
+        target[3001] = 2;
+        System.arraycopy(base, 3000, target, 3002, 4000);
+        target[7002] = 3;
+        System.arraycopy(base, 7001, target, 7003, base.length - 7001);
+
+        byte[] delta = BinaryDelta.encode(base, target);
+        Assert.assertTrue(Arrays.equals(target, BinaryDelta.decode(base, delta)));
+        Assert.assertTrue("Delta has to be small", delta.length < 200);
+    }
+
+    @Test
+    public void testEmptyBase() {
+        byte[] target = "permanents Grizzly Bears Grizzly Bears Grizzly Bears".getBytes();
+        byte[] delta = BinaryDelta.encode(new byte[0], target);
+        Assert.assertTrue(Arrays.equals(target, BinaryDelta.decode(new byte[0], delta)));
+    }
+
+    @Test
+    public void testUnrelatedTarget() {
+        Random random = new Random(7);
+        byte[] base = new byte[1000];
+        random.nextBytes(base);
+        byte[] target = new byte[777];
+        random.nextBytes(target);
+        Assert.assertTrue(Arrays.equals(target, BinaryDelta.decode(base, BinaryDelta.encode(base, target))));
+    }
+}
@@ -0,0 +1,77 @@
+package org.mage.test.utils;
+
+import java.util.UUID;
+import mage.abilities.Ability;
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.CardPrototypes;
+import mage.cards.SplitCard;
+import mage.sets.apocalypse.FireIce;
+import mage.sets.magic2013.SilvercoatLion;
+import mage.sets.tenth.GiantGrowth;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Cards created from a prototype need own ids like cards built by their
+ * constructor.
+ *
+ * @author agent
+ */
+public class CardPrototypesTest {
+
+    @Test
+    public void testNewIds() {
+        Card first = CardImpl.createCard(SilvercoatLion.class);
+        Card second = CardImpl.createCard(SilvercoatLion.class);
+        Assert.assertTrue(first instanceof SilvercoatLion);
+        Assert.assertNotEquals(first.getId(), second.getId());
+        Assert.assertEquals(first.getAbilities().size(), second.getAbilities().size());
+        for (Ability ability: first.getAbilities()) {
+            Assert.assertEquals(first.getId(), ability.getSourceId());
+            Assert.assertFalse(second.getAbilities().containsKey(ability.getId()));
+        }
+        Assert.assertEquals(first.getSpellAbility().getSourceId(), first.getId());
+        Assert.assertEquals(second.getSpellAbility().getSourceId(), second.getId());
+    }
+
+    @Test
+    public void testSplitCard() {
+        SplitCard first = (SplitCard) CardImpl.createCard(FireIce.class);
+        SplitCard second = (SplitCard) CardImpl.createCard(FireIce.class);
+        Assert.assertNotEquals(first.getLeftHalfCard().getId(), second.getLeftHalfCard().getId());
+        Assert.assertNotEquals(first.getRightHalfCard().getId(), second.getRightHalfCard().getId());
+    }
+
+    @Test
+    public void testPrototypeForSecondCard() {
+        int count = CardPrototypes.getPrototypeCount();
+        Card first = CardImpl.createCard(PrototypeGrowth.class);
+        Assert.assertEquals("The first card doesn't keep a prototype", count, CardPrototypes.getPrototypeCount());
+        Card second = CardImpl.createCard(PrototypeGrowth.class);
+        Assert.assertEquals(count + 1, CardPrototypes.getPrototypeCount());
+        Assert.assertNotEquals(first.getId(), second.getId());
+        Assert.assertTrue(CardPrototypes.getPrototypeCount() <= CardPrototypes.MAX_PROTOTYPES);
+    }
+
+    /**
+     * Only used by this test, so no other test has created a card of the
+     * class before.
+     */
+    public static class PrototypeGrowth extends GiantGrowth {
+
+        public PrototypeGrowth(UUID ownerId) {
+            super(ownerId);
+        }
+
+        public PrototypeGrowth(final PrototypeGrowth card) {
+            super(card);
+        }
+
+        @Override
+        public PrototypeGrowth copy() {
+            return new PrototypeGrowth(this);
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.mage.test.utils;
+
+import mage.abilities.Ability;
+import mage.abilities.common.SimpleStaticAbility;
+import mage.abilities.effects.ContinuousEffect;
+import mage.abilities.effects.ContinuousEffectsList;
+import mage.abilities.effects.common.PreventAllDamageToSourceEffect;
+import mage.abilities.effects.common.RegenerateSourceEffect;
+import mage.abilities.effects.common.continious.BoostSourceEffect;
+import mage.constants.Duration;
+import mage.constants.Zone;
+import mage.game.events.GameEvent.EventType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Effects are only returned for the event types they can apply to.
+ *
+ * @author agent
+ */
+public class ContinuousEffectsListTest {
+
+    @Test
+    public void testEffectsForEventType() {
+        ContinuousEffectsList<ContinuousEffect> effects = new ContinuousEffectsList<>();
+        ContinuousEffect regenerate = new RegenerateSourceEffect();
+        ContinuousEffect prevent = new PreventAllDamageToSourceEffect(Duration.WhileOnBattlefield);
+        ContinuousEffect boost = new BoostSourceEffect(1, 1, Duration.WhileOnBattlefield);
+        effects.addEffect(regenerate, new SimpleStaticAbility(Zone.BATTLEFIELD, regenerate));
+        effects.addEffect(prevent, new SimpleStaticAbility(Zone.BATTLEFIELD, prevent));
+
+        Assert.assertEquals(1, effects.getEffects(EventType.DESTROY_PERMANENT).size());
+        Assert.assertSame(prevent, effects.getEffects(EventType.DAMAGE_CREATURE).get(0));
+        Assert.assertTrue(effects.getEffects(EventType.UPKEEP_STEP_PRE).isEmpty());
+
+        // effects without defined event types are returned for all events
+        Ability ability = new SimpleStaticAbility(Zone.BATTLEFIELD, boost);
+        effects.addEffect(boost, ability);
+        Assert.assertEquals(1, effects.getEffects(EventType.UPKEEP_STEP_PRE).size());
+        Assert.assertEquals(2, effects.getEffects(EventType.DESTROY_PERMANENT).size());
+
+        effects.removeEffect(boost, ability);
+        Assert.assertTrue(effects.getEffects(EventType.UPKEEP_STEP_PRE).isEmpty());
+
+        ContinuousEffectsList<ContinuousEffect> copy = effects.copy();
+        Assert.assertEquals(1, copy.getEffects(EventType.DAMAGE_PLAYER).size());
+        Assert.assertNotSame(prevent, copy.getEffects(EventType.DAMAGE_PLAYER).get(0));
+    }
+
+}
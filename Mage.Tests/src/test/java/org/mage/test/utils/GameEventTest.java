@@ -0,0 +1,51 @@
+package org.mage.test.utils;
+
+import java.util.UUID;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import mage.game.events.ReusableGameEvent;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The list of applied effects is only created if it's needed and reusable
+ * events are only reused if they are no longer handled.
+ *
+ * @author agent
+ */
+public class GameEventTest {
+
+    @After
+    public void tearDown() {
+        GameEvent.setCountAllocations(false);
+        GameEvent.resetAllocations();
+    }
+
+    @Test
+    public void testAppliedEffectsCreatedLazily() {
+        GameEvent.resetAllocations();
+        GameEvent.setCountAllocations(true);
+        UUID effectId = UUID.randomUUID();
+        GameEvent event = GameEvent.getEvent(EventType.DRAW_CARD, null, null, null);
+        Assert.assertFalse(event.isEffectApplied(effectId));
+        Assert.assertEquals(1, GameEvent.getEventAllocations(EventType.DRAW_CARD));
+        Assert.assertEquals(0, GameEvent.getAppliedEffectsAllocations(EventType.DRAW_CARD));
+
+        event.getAppliedEffects().add(effectId);
+        Assert.assertTrue(event.isEffectApplied(effectId));
+        Assert.assertEquals(1, GameEvent.getAppliedEffectsAllocations(EventType.DRAW_CARD));
+    }
+
+    @Test
+    public void testReusableEventInUse() {
+        ReusableGameEvent events = new ReusableGameEvent();
+        UUID playerId = UUID.randomUUID();
+        GameEvent event = events.get(EventType.UPKEEP_STEP_PRE, null, null, playerId);
+        GameEvent nested = events.get(EventType.DRAW_STEP_PRE, null, null, playerId);
+        Assert.assertNotSame(event, nested);
+        Assert.assertEquals(EventType.UPKEEP_STEP_PRE, event.getType());
+        Assert.assertEquals(EventType.DRAW_STEP_PRE, nested.getType());
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.mage.test.utils;
+
+import mage.game.GameReplay;
+import mage.game.GameState;
+import mage.game.GameStates;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * A replay of a game history skips the states that were dropped because the
+ * history got bigger than allowed.
+ *
+ * @author agent
+ */
+public class GameStatesTest {
+
+    private static final int STATES = 100;
+
+    private GameStates createHistory(long maxHistoryBytes) {
+        GameStates gameStates = new GameStates();
+        gameStates.setMaxHistoryBytes(maxHistoryBytes);
+        GameState state = new GameState();
+        for (int i = 0; i < STATES; i++) {
+            state.setValue("state", i);
+            // make every state a bit different, so key frames are created now and then
+            state.setValue("payload" + i, new int[i * 10]);
+            gameStates.save(state);
+        }
+        return gameStates;
+    }
+
+    @Test
+    public void testReplayCompleteHistory() {
+        GameStates gameStates = createHistory(Long.MAX_VALUE);
+        GameReplay replay = new GameReplay(gameStates);
+        replay.start();
+        for (int i = 0; i < STATES; i++) {
+            Assert.assertEquals(i, replay.next().getValue("state"));
+        }
+        Assert.assertNull(replay.next());
+    }
+
+    @Test
+    public void testReplayHistoryPastByteLimit() {
+        GameStates gameStates = createHistory(Long.MAX_VALUE);
+        long maxHistoryBytes = gameStates.getHistoryBytes() / 4;
+        gameStates = createHistory(maxHistoryBytes);
+        Assert.assertEquals(STATES, gameStates.getSize());
+        Assert.assertTrue(gameStates.getHistoryBytes() <= maxHistoryBytes);
+        Assert.assertNull("Oldest state has to be dropped", gameStates.get(0));
+
+        GameReplay replay = new GameReplay(gameStates);
+        replay.start();
+        GameState state = replay.next();
+        Assert.assertNotNull("Replay starts with the oldest kept state", state);
+        int first = (Integer) state.getValue("state");
+        Assert.assertTrue(first > 0);
+        int last = first;
+        while ((state = replay.next()) != null) {
+            Assert.assertEquals(last + 1, state.getValue("state"));
+            last++;
+        }
+        Assert.assertEquals(STATES - 1, last);
+
+        // back to the first kept state
+        int previous = last;
+        while ((state = replay.previous()) != null) {
+            previous = (Integer) state.getValue("state");
+        }
+        Assert.assertEquals(first, previous);
+    }
+
+}
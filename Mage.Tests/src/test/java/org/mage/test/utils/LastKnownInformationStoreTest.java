@@ -0,0 +1,46 @@
+package org.mage.test.utils;
+
+import java.util.UUID;
+import mage.MageObject;
+import mage.constants.Zone;
+import mage.game.LastKnownInformation;
+import mage.game.permanent.token.SoldierToken;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Copies of the last known information share the remembered objects until
+ * one of them remembers a new object.
+ *
+ * @author agent
+ */
+public class LastKnownInformationStoreTest {
+
+    @Test
+    public void testCopiesAreIndependent() {
+        LastKnownInformation lki = new LastKnownInformation();
+        UUID first = UUID.randomUUID();
+        MageObject firstObject = new SoldierToken();
+        lki.put(first, Zone.BATTLEFIELD, firstObject);
+        lki.put(first, 3, firstObject);
+
+        LastKnownInformation copy = lki.copy();
+        Assert.assertSame(firstObject, copy.get(first, Zone.BATTLEFIELD));
+        Assert.assertSame(firstObject, copy.get(first, 3));
+        Assert.assertNull(copy.get(first, Zone.GRAVEYARD));
+
+        UUID second = UUID.randomUUID();
+        copy.put(second, Zone.BATTLEFIELD, new SoldierToken());
+        Assert.assertNull(lki.get(second, Zone.BATTLEFIELD));
+        Assert.assertNotNull(copy.get(second, Zone.BATTLEFIELD));
+
+        UUID third = UUID.randomUUID();
+        lki.put(third, Zone.STACK, new SoldierToken());
+        Assert.assertNull(copy.get(third, Zone.STACK));
+
+        lki.clear();
+        Assert.assertNull(lki.get(first, Zone.BATTLEFIELD));
+        Assert.assertSame(firstObject, copy.get(first, Zone.BATTLEFIELD));
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.mage.test.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
+import mage.util.ClassScanner;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Loads the cards of all sets on many threads at once. The mana costs parsed
+ * concurrently have to be the same on all threads.
+ *
+ * @author agent
+ */
+public class ManaCostsStressTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void testLoadAllSetsConcurrently() throws Exception {
+        List<String> packages = new ArrayList<>();
+        for (ExpansionSet set: Sets.getInstance().values()) {
+            packages.add(set.getPackageName());
+        }
+        final List<Class> classes = ClassScanner.findClasses(packages, CardImpl.class);
+        Assert.assertFalse(classes.isEmpty());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Map<String, String>>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            final long seed = i;
+            results.add(executor.submit(new Callable<Map<String, String>>() {
+                @Override
+                public Map<String, String> call() {
+                    List<Class> shuffled = new ArrayList<>(classes);
+                    Collections.shuffle(shuffled, new Random(seed));
+                    Map<String, String> manaCosts = new HashMap<>();
+                    for (Class clazz: shuffled) {
+                        Card card = CardImpl.createCard(clazz, false);
+                        if (card != null) {
+                            manaCosts.put(clazz.getName(), card.getManaCost().getText());
+                        }
+                    }
+                    return manaCosts;
+                }
+            }));
+        }
+        executor.shutdown();
+
+        Map<String, String> expected = results.get(0).get();
+        for (Future<Map<String, String>> result: results) {
+            Assert.assertEquals(expected, result.get());
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+package org.mage.test.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import mage.Mana;
+import mage.abilities.mana.ManaOptions;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The reduced mana options have to be able to pay the same costs as all
+ * combinations of the mana sources.
+ *
+ * @author agent
+ */
+public class ManaOptionsTest {
+
+    // R, G, U, W, B, colorless
+    private static final Mana[] MANA = {Mana.RedMana(1), Mana.GreenMana(1), Mana.BlueMana(1), Mana.WhiteMana(1), Mana.BlackMana(1), Mana.ColorlessMana(1)};
+
+    private static ManaOptions source(Mana... options) {
+        ManaOptions source = new ManaOptions();
+        for (Mana mana: options) {
+            source.add(mana.copy());
+        }
+        return source;
+    }
+
+    private static ManaOptions dual(int first, int second) {
+        return source(MANA[first], MANA[second]);
+    }
+
+    /**
+     * All combinations of the mana sources (as ManaOptions did create them
+     * before the included options were removed)
+     */
+    private static List<Mana> allCombinations(List<ManaOptions> sources) {
+        List<Mana> combinations = new ArrayList<>();
+        combinations.add(new Mana());
+        for (ManaOptions source: sources) {
+            List<Mana> next = new ArrayList<>();
+            for (Mana option: source) {
+                for (Mana mana: combinations) {
+                    Mana newMana = mana.copy();
+                    newMana.add(option);
+                    next.add(newMana);
+                }
+            }
+            combinations = next;
+        }
+        return combinations;
+    }
+
+    private static ManaOptions available(List<ManaOptions> sources) {
+        ManaOptions available = new ManaOptions();
+        for (ManaOptions source: sources) {
+            available.addMana(source);
+        }
+        return available;
+    }
+
+    /**
+     * All costs with up to two mana of each color and up to three colorless mana
+     */
+    private static List<Mana> costs() {
+        List<Mana> costs = new ArrayList<>();
+        for (int r = 0; r <= 2; r++) {
+            for (int g = 0; g <= 2; g++) {
+                for (int u = 0; u <= 2; u++) {
+                    for (int w = 0; w <= 2; w++) {
+                        for (int b = 0; b <= 2; b++) {
+                            for (int c = 0; c <= 3; c++) {
+                                costs.add(new Mana(r, g, u, w, b, c, 0));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return costs;
+    }
+
+    private static boolean enough(List<Mana> available, Mana cost) {
+        for (Mana avail: available) {
+            if (cost.enough(avail)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void assertSameCostsPayable(List<ManaOptions> sources) {
+        List<Mana> combinations = allCombinations(sources);
+        ManaOptions available = available(sources);
+        Assert.assertTrue("Options have to be reduced", available.size() <= combinations.size());
+        for (Mana cost: costs()) {
+            Assert.assertEquals("Cost " + cost, enough(combinations, cost), available.enough(cost));
+        }
+    }
+
+    @Test
+    public void testBasicLands() {
+        List<ManaOptions> sources = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            sources.add(source(MANA[i % 5]));
+        }
+        assertSameCostsPayable(sources);
+        Assert.assertEquals(1, available(sources).size());
+    }
+
+    @Test
+    public void testSameDualLands() {
+        List<ManaOptions> sources = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sources.add(dual(0, 1));
+        }
+        assertSameCostsPayable(sources);
+        // 0-5 red mana
+        Assert.assertEquals(6, available(sources).size());
+    }
+
+    @Test
+    public void testFiveColorDualLands() {
+        List<ManaOptions> sources = new ArrayList<>();
+        sources.add(dual(0, 1));
+        sources.add(dual(1, 2));
+        sources.add(dual(2, 3));
+        sources.add(dual(3, 4));
+        sources.add(dual(4, 0));
+        sources.add(dual(0, 2));
+        sources.add(dual(1, 3));
+        sources.add(source(MANA[5]));
+        sources.add(source(new Mana(0, 0, 0, 0, 0, 0, 1)));
+        assertSameCostsPayable(sources);
+    }
+
+    @Test
+    public void testSourcesWithDifferentAmounts() {
+        List<ManaOptions> sources = new ArrayList<>();
+        sources.add(source(Mana.ColorlessMana(2), Mana.GreenMana(1)));
+        sources.add(source(Mana.RedMana(1), Mana.ColorlessMana(1)));
+        sources.add(dual(2, 4));
+        sources.add(source(Mana.BlackMana(2), Mana.WhiteMana(1), Mana.RedMana(1)));
+        assertSameCostsPayable(sources);
+    }
+
+    @Test
+    public void testAnyColorSources() {
+        List<ManaOptions> sources = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sources.add(source(MANA[0], MANA[1], MANA[2], MANA[3], MANA[4], Mana.ColorlessMana(2)));
+        }
+        assertSameCostsPayable(sources);
+        for (int i = 4; i < 12; i++) {
+            sources.add(source(MANA[0], MANA[1], MANA[2], MANA[3], MANA[4], Mana.ColorlessMana(2)));
+        }
+        // 0-12 mana of any color, the rest colorless
+        Assert.assertEquals(13, available(sources).size());
+    }
+
+    @Test
+    public void testManyMixedDualLands() {
+        // only two sources of white mana
+        int[][] lands = {{0, 1}, {1, 2}, {2, 4}, {4, 0}, {0, 2}, {1, 4}, {0, 3}, {2, 3}, {0, 1}, {1, 2}};
+        List<ManaOptions> sources = new ArrayList<>();
+        for (int[] land: lands) {
+            sources.add(dual(land[0], land[1]));
+        }
+        assertSameCostsPayable(sources);
+        ManaOptions available = available(sources);
+        Assert.assertTrue(available.enough(Mana.WhiteMana(2)));
+        Assert.assertFalse("Only two sources can produce white mana", available.enough(Mana.WhiteMana(4)));
+        Assert.assertFalse(available.enough(Mana.WhiteMana(3)));
+    }
+
+}
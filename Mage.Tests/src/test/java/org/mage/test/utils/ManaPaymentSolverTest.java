@@ -0,0 +1,97 @@
+package org.mage.test.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import mage.Mana;
+import mage.abilities.costs.mana.ManaCost;
+import mage.abilities.costs.mana.ManaCostsImpl;
+import mage.abilities.mana.ManaPaymentSolver;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The solver has to find a payment if there is one and has to keep the
+ * sources with the highest penalty untapped.
+ *
+ * @author agent
+ */
+public class ManaPaymentSolverTest {
+
+    private static final List<Mana> MOUNTAIN = Arrays.asList(Mana.RedMana(1));
+    private static final List<Mana> FOREST = Arrays.asList(Mana.GreenMana(1));
+    private static final List<Mana> PLAINS = Arrays.asList(Mana.WhiteMana(1));
+    private static final List<Mana> TAIGA = Arrays.asList(Mana.RedMana(1), Mana.GreenMana(1));
+    private static final List<Mana> VOLCANIC_ISLAND = Arrays.asList(Mana.BlueMana(1), Mana.RedMana(1));
+    private static final List<Mana> BIRDS = Arrays.asList(new Mana(0, 0, 0, 0, 0, 0, 1));
+    private static final List<Mana> SOL_RING = Arrays.asList(Mana.ColorlessMana(2));
+
+    private static List<ManaCost> cost(String text) {
+        return new ManaCostsImpl<>(text);
+    }
+
+    private static boolean canPay(List<ManaCost> cost, List<List<Mana>> sources) {
+        return ManaPaymentSolver.solve(cost, sources, new int[sources.size()]) != null;
+    }
+
+    @SafeVarargs
+    private static List<List<Mana>> sources(List<Mana>... sources) {
+        return new ArrayList<>(Arrays.asList(sources));
+    }
+
+    @Test
+    public void testKeepFlexibleSourcesUntapped() {
+        int[] solution = ManaPaymentSolver.solve(cost("{R}{G}"), sources(TAIGA, MOUNTAIN, FOREST), new int[]{3, 2, 2});
+        Assert.assertArrayEquals(new int[]{-1, 0, 0}, solution);
+
+        solution = ManaPaymentSolver.solve(cost("{1}{R}"), sources(BIRDS, MOUNTAIN, FOREST), new int[]{5, 2, 2});
+        Assert.assertArrayEquals(new int[]{-1, 0, 0}, solution);
+    }
+
+    @Test
+    public void testUseTheRightOptionOfDualLands() {
+        // greedy use of the dual land for the red mana would fail
+        int[] solution = ManaPaymentSolver.solve(cost("{R}{U}"), sources(VOLCANIC_ISLAND, MOUNTAIN), new int[]{1, 1});
+        Assert.assertArrayEquals(new int[]{0, 0}, solution);
+
+        solution = ManaPaymentSolver.solve(cost("{G}{R}{R}"), sources(TAIGA, TAIGA, BIRDS), new int[]{3, 3, 5});
+        Assert.assertNotNull(solution);
+        Assert.assertEquals(0, solution[2]);
+    }
+
+    @Test
+    public void testHybridAndMonoHybrid() {
+        Assert.assertTrue(canPay(cost("{R/G}{R/G}"), sources(MOUNTAIN, FOREST)));
+        Assert.assertFalse(canPay(cost("{R/G}{R/G}"), sources(MOUNTAIN, PLAINS)));
+        Assert.assertTrue(canPay(cost("{2/W}"), sources(MOUNTAIN, FOREST)));
+        Assert.assertTrue(canPay(cost("{2/W}{2/W}"), sources(PLAINS, SOL_RING)));
+        Assert.assertFalse(canPay(cost("{2/W}"), sources(MOUNTAIN)));
+    }
+
+    @Test
+    public void testManaForOneOfSeveralSymbols() {
+        // the red mana has to pay {R/G}, not {R/W}
+        Assert.assertTrue(canPay(cost("{R/W}{R/G}"), sources(MOUNTAIN, PLAINS)));
+        Assert.assertArrayEquals(new int[]{0, 0}, ManaPaymentSolver.solve(cost("{R/W}{R/G}"), sources(MOUNTAIN, PLAINS), new int[]{3, 3}));
+        // the red mana has to pay {R/G}, not {2/R}; penalties of the computer player
+        Assert.assertTrue(canPay(cost("{R/G}{2/R}"), sources(MOUNTAIN, SOL_RING)));
+        Assert.assertArrayEquals(new int[]{0, 0}, ManaPaymentSolver.solve(cost("{R/G}{2/R}"), sources(MOUNTAIN, SOL_RING), new int[]{2, 4}));
+        Assert.assertFalse(canPay(cost("{R/W}{R/W}"), sources(MOUNTAIN, FOREST, SOL_RING)));
+    }
+
+    @Test
+    public void testCantPay() {
+        Assert.assertNull(ManaPaymentSolver.solve(cost("{R}{R}"), sources(MOUNTAIN, FOREST), new int[]{1, 1}));
+        Assert.assertFalse(canPay(cost("{3}"), sources(MOUNTAIN, FOREST)));
+        Assert.assertTrue(canPay(cost("{3}"), sources(MOUNTAIN, SOL_RING)));
+    }
+
+    @Test
+    public void testUnsupportedCosts() {
+        Assert.assertTrue(ManaPaymentSolver.isSupported(cost("{2}{R}{R/G}{2/W}")));
+        Assert.assertFalse(ManaPaymentSolver.isSupported(cost("{R/P}")));
+        Assert.assertFalse(ManaPaymentSolver.isSupported(cost("{snow}")));
+        Assert.assertFalse(ManaPaymentSolver.isSupported(cost("{X}{R}")));
+    }
+
+}
@@ -0,0 +1,81 @@
+package org.mage.test.utils;
+
+import mage.Mana;
+import mage.PackedMana;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The packed mana has to give the same results as the Mana methods.
+ *
+ * @author agent
+ */
+public class PackedManaTest {
+
+    @Test
+    public void testPackAndUnpack() {
+        Mana mana = new Mana(1, 2, 3, 4, 5, 6, 7);
+        long packed = PackedMana.pack(mana);
+        Assert.assertEquals(1, PackedMana.getRed(packed));
+        Assert.assertEquals(2, PackedMana.getGreen(packed));
+        Assert.assertEquals(3, PackedMana.getBlue(packed));
+        Assert.assertEquals(4, PackedMana.getWhite(packed));
+        Assert.assertEquals(5, PackedMana.getBlack(packed));
+        Assert.assertEquals(6, PackedMana.getColorless(packed));
+        Assert.assertEquals(7, PackedMana.getAny(packed));
+        Assert.assertEquals(mana.count(), PackedMana.count(packed));
+        Assert.assertEquals(mana.toString(), PackedMana.toMana(packed).toString());
+
+        Assert.assertEquals(PackedMana.INVALID, PackedMana.pack(Mana.RedMana(-1)));
+        Assert.assertEquals(PackedMana.INVALID, PackedMana.pack(Mana.ColorlessMana(256)));
+        Assert.assertEquals(255, PackedMana.getColorless(PackedMana.pack(Mana.ColorlessMana(255))));
+    }
+
+    @Test
+    public void testAddAndSubtract() {
+        long red = PackedMana.pack(Mana.RedMana(2));
+        long mixed = PackedMana.pack(new Mana(1, 1, 0, 0, 0, 3, 0));
+        long sum = PackedMana.add(red, mixed);
+        Assert.assertEquals(3, PackedMana.getRed(sum));
+        Assert.assertEquals(1, PackedMana.getGreen(sum));
+        Assert.assertEquals(3, PackedMana.getColorless(sum));
+        Assert.assertEquals(mixed, PackedMana.subtract(sum, red));
+        Assert.assertEquals(PackedMana.INVALID, PackedMana.subtract(red, mixed));
+
+        long max = PackedMana.pack(Mana.GreenMana(200));
+        Assert.assertEquals("Amounts over 255 can't be packed", PackedMana.INVALID, PackedMana.add(max, max));
+    }
+
+    @Test
+    public void testIncludes() {
+        long big = PackedMana.pack(new Mana(2, 1, 0, 0, 0, 1, 0));
+        Assert.assertTrue(PackedMana.includes(big, PackedMana.pack(new Mana(2, 0, 0, 0, 0, 1, 0))));
+        Assert.assertTrue(PackedMana.includes(big, big));
+        Assert.assertTrue(PackedMana.includes(big, PackedMana.EMPTY));
+        Assert.assertFalse(PackedMana.includes(big, PackedMana.pack(new Mana(3, 0, 0, 0, 0, 0, 0))));
+        Assert.assertFalse(PackedMana.includes(big, PackedMana.pack(new Mana(0, 0, 0, 0, 0, 0, 1))));
+        Assert.assertTrue(PackedMana.compare(big, PackedMana.pack(Mana.RedMana(3))) > 0);
+    }
+
+    @Test
+    public void testEnough() {
+        // all costs and available mana with up to two mana of red, green, colorless and any
+        for (int cost = 0; cost < 81; cost++) {
+            for (int avail = 0; avail < 81; avail++) {
+                Mana costMana = create(cost);
+                Mana availMana = create(avail);
+                // 256 more red mana on both sides can't be packed, so Mana.enough uses its own calculation
+                Mana unpackedCost = costMana.copy();
+                unpackedCost.setRed(unpackedCost.getRed() + 256);
+                Mana unpackedAvail = availMana.copy();
+                unpackedAvail.setRed(unpackedAvail.getRed() + 256);
+                Assert.assertEquals(costMana + " " + availMana, unpackedCost.enough(unpackedAvail),
+                        PackedMana.enough(PackedMana.pack(costMana), PackedMana.pack(availMana)));
+            }
+        }
+    }
+
+    private static Mana create(int value) {
+        return new Mana(value % 3, value / 3 % 3, 0, 0, 0, value / 9 % 3, value / 27 % 3);
+    }
+}
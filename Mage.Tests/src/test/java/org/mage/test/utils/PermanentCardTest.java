@@ -0,0 +1,62 @@
+package org.mage.test.utils;
+
+import java.util.UUID;
+import mage.abilities.Ability;
+import mage.game.permanent.PermanentCard;
+import mage.sets.tenth.ProdigalPyromancer;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Copies of a permanent share its card, so resetting or changing one copy
+ * must not change the card or the abilities of the other copies.
+ *
+ * @author agent
+ */
+public class PermanentCardTest {
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID otherId = UUID.randomUUID();
+
+    @Test
+    public void testResetCopyKeepsCardOfOtherCopy() {
+        PermanentCard permanent = new PermanentCard(new ProdigalPyromancer(ownerId), ownerId);
+        permanent.reset(null);
+        PermanentCard first = permanent.copy();
+        PermanentCard second = permanent.copy();
+
+        second.reset(null);
+        second.setControllerId(otherId);
+        first.reset(null);
+
+        for (Ability ability: first.getAbilities()) {
+            Assert.assertEquals(ownerId, ability.getControllerId());
+            Assert.assertNotSame(ability, second.getAbilities().get(ability.getId()));
+        }
+        for (Ability ability: second.getAbilities()) {
+            Assert.assertEquals(otherId, ability.getControllerId());
+        }
+        for (Ability ability: first.getCard().getAbilities()) {
+            Assert.assertEquals(ownerId, ability.getControllerId());
+            Assert.assertNotSame(ability, second.getAbilities().get(ability.getId()));
+        }
+    }
+
+    @Test
+    public void testCopyOfResetCopy() {
+        PermanentCard permanent = new PermanentCard(new ProdigalPyromancer(ownerId), ownerId);
+        PermanentCard first = permanent.copy();
+        first.reset(null);
+        PermanentCard second = first.copy();
+        second.reset(null);
+        second.setControllerId(otherId);
+
+        first.reset(null);
+        Assert.assertEquals(permanent.getAbilities().size(), first.getAbilities().size());
+        for (Ability ability: first.getAbilities()) {
+            Assert.assertEquals(ownerId, ability.getControllerId());
+            Assert.assertNotSame(ability, second.getAbilities().get(ability.getId()));
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package org.mage.test.utils;
+
+import java.util.EnumSet;
+import java.util.Set;
+import mage.constants.WatcherScope;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import mage.watchers.Watcher;
+import mage.watchers.Watchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Watchers that declare the watched event types get only events of these types.
+ *
+ * @author agent
+ */
+public class WatchersTest {
+
+    @Test
+    public void testEventDispatch() {
+        Watchers watchers = new Watchers();
+        CountingWatcher spellWatcher = new CountingWatcher("spell", EnumSet.of(EventType.SPELL_CAST));
+        CountingWatcher allWatcher = new CountingWatcher("all", null);
+        watchers.add(spellWatcher);
+        watchers.add(allWatcher);
+
+        watchers.watch(GameEvent.getEvent(EventType.UPKEEP_STEP_PRE, null, null), null);
+        watchers.watch(GameEvent.getEvent(EventType.SPELL_CAST, null, null), null);
+
+        Assert.assertEquals(1, spellWatcher.count);
+        Assert.assertEquals(2, allWatcher.count);
+
+        Watchers copy = watchers.copy();
+        copy.watch(GameEvent.getEvent(EventType.SPELL_CAST, null, null), null);
+        Assert.assertEquals("Copy must not call the original watchers", 1, spellWatcher.count);
+        Assert.assertEquals(2, ((CountingWatcher) copy.get("spell")).count);
+
+        copy.remove("spell");
+        copy.watch(GameEvent.getEvent(EventType.SPELL_CAST, null, null), null);
+        Assert.assertEquals(4, ((CountingWatcher) copy.get("all")).count);
+    }
+
+    private static class CountingWatcher extends Watcher {
+
+        private final Set<EventType> eventTypes;
+        private int count;
+
+        CountingWatcher(String key, Set<EventType> eventTypes) {
+            super(key, WatcherScope.GAME);
+            this.eventTypes = eventTypes;
+        }
+
+        CountingWatcher(final CountingWatcher watcher) {
+            super(watcher);
+            this.eventTypes = watcher.eventTypes;
+            this.count = watcher.count;
+        }
+
+        @Override
+        public Set<EventType> getWatchedEvents() {
+            return eventTypes;
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            count++;
+        }
+
+        @Override
+        public CountingWatcher copy() {
+            return new CountingWatcher(this);
+        }
+    }
+}
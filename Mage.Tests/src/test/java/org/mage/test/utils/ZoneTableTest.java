@@ -0,0 +1,56 @@
+package org.mage.test.utils;
+
+import java.util.UUID;
+import mage.constants.Zone;
+import mage.game.ZoneTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Copies of the zone table share the handles of the objects but not the
+ * zones.
+ *
+ * @author agent
+ */
+public class ZoneTableTest {
+
+    @Test
+    public void testCopiesAreIndependent() {
+        ZoneTable table = new ZoneTable();
+        UUID card = UUID.randomUUID();
+        Assert.assertNull(table.put(card, Zone.HAND));
+
+        ZoneTable copy = table.copy();
+        Assert.assertEquals(Zone.HAND, copy.put(card, Zone.BATTLEFIELD));
+        Assert.assertEquals(Zone.HAND, table.get(card));
+        Assert.assertEquals(Zone.BATTLEFIELD, copy.get(card));
+
+        UUID token = UUID.randomUUID();
+        copy.put(token, Zone.BATTLEFIELD);
+        Assert.assertNull(table.get(token));
+        UUID otherToken = UUID.randomUUID();
+        table.put(otherToken, Zone.EXILED);
+        Assert.assertNull(copy.get(otherToken));
+        Assert.assertEquals(Zone.BATTLEFIELD, copy.get(token));
+        Assert.assertEquals(2, table.size());
+        Assert.assertEquals(2, copy.size());
+    }
+
+    @Test
+    public void testGrow() {
+        ZoneTable table = new ZoneTable();
+        UUID[] ids = new UUID[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+            table.put(ids[i], Zone.values()[i % Zone.values().length]);
+        }
+        ZoneTable copy = table.copy();
+        for (int i = 0; i < ids.length; i++) {
+            Assert.assertEquals(Zone.values()[i % Zone.values().length], copy.get(ids[i]));
+        }
+        copy.clear();
+        Assert.assertNull(copy.get(ids[0]));
+        Assert.assertEquals(Zone.values()[0], table.get(ids[0]));
+    }
+
+}
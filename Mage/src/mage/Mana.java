@@ -241,6 +241,11 @@ public class Mana implements Comparable<Mana>, Serializable, Copyable<Mana> {
     }
 
     public boolean enough(Mana avail) {
+        long packedCost = PackedMana.pack(this);
+        long packedAvail = PackedMana.pack(avail);
+        if (packedCost != PackedMana.INVALID && packedAvail != PackedMana.INVALID) {
+            return PackedMana.enough(packedCost, packedAvail);
+        }
         Mana compare = avail.copy();
         compare.subtract(this);
         if (compare.getRed() < 0) {
@@ -0,0 +1,219 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage;
+
+/**
+ * Mana amounts packed into a long, for the mana calculations that are done
+ * very often (e.g. the mana options of all mana sources of a player).
+ *
+ * Every type (red, green, blue, white, black, colorless, any) has a lane of 9
+ * bits, the highest bit of a lane is a guard bit, so the amounts can be 0 to
+ * 255. The methods don't create objects. Mana with negative or too big
+ * amounts can't be packed, pack returns INVALID then and the Mana methods have
+ * to be used. The flag of the mana is not packed.
+ *
+ * @author agent
+ */
+public final class PackedMana {
+
+    public static final long INVALID = -1L;
+    public static final long EMPTY = 0L;
+
+    private static final int LANES = 7;
+    private static final int LANE_BITS = 9;
+    private static final int MAX_AMOUNT = 255;
+    private static final long LANE_MASK = (1L << LANE_BITS) - 1;
+
+    private static final int RED = 0;
+    private static final int GREEN = 1;
+    private static final int BLUE = 2;
+    private static final int WHITE = 3;
+    private static final int BLACK = 4;
+    private static final int COLORLESS = 5;
+    private static final int ANY = 6;
+
+    // the guard bits of all lanes
+    private static final long GUARDS;
+
+    static {
+        long guards = 0;
+        for (int lane = 0; lane < LANES; lane++) {
+            guards |= 1L << (lane * LANE_BITS + LANE_BITS - 1);
+        }
+        GUARDS = guards;
+    }
+
+    private PackedMana() {
+    }
+
+    public static long pack(Mana mana) {
+        return pack(mana.getRed(), mana.getGreen(), mana.getBlue(), mana.getWhite(), mana.getBlack(), mana.getColorless(), mana.getAny());
+    }
+
+    public static long pack(int red, int green, int blue, int white, int black, int colorless, int any) {
+        if (!fits(red) || !fits(green) || !fits(blue) || !fits(white) || !fits(black) || !fits(colorless) || !fits(any)) {
+            return INVALID;
+        }
+        return (long) red
+                | (long) green << (GREEN * LANE_BITS)
+                | (long) blue << (BLUE * LANE_BITS)
+                | (long) white << (WHITE * LANE_BITS)
+                | (long) black << (BLACK * LANE_BITS)
+                | (long) colorless << (COLORLESS * LANE_BITS)
+                | (long) any << (ANY * LANE_BITS);
+    }
+
+    public static Mana toMana(long packed) {
+        return new Mana(getRed(packed), getGreen(packed), getBlue(packed), getWhite(packed), getBlack(packed), getColorless(packed), getAny(packed));
+    }
+
+    /**
+     * Adds the mana of both values
+     *
+     * @param packed
+     * @param add
+     * @return the sum or INVALID if an amount would be too big
+     */
+    public static long add(long packed, long add) {
+        if (packed == INVALID || add == INVALID) {
+            return INVALID;
+        }
+        long sum = packed + add;
+        // amounts of max 255 can't carry into the next lane, only into the guard bit
+        return (sum & GUARDS) == 0 ? sum : INVALID;
+    }
+
+    /**
+     * Subtracts the mana of every type
+     *
+     * @param packed
+     * @param subtract
+     * @return the difference or INVALID if an amount would be negative
+     */
+    public static long subtract(long packed, long subtract) {
+        if (!includes(packed, subtract)) {
+            return INVALID;
+        }
+        return packed - subtract;
+    }
+
+    /**
+     * @param packed
+     * @param included
+     * @return true if packed has at least the mana of included of every type
+     */
+    public static boolean includes(long packed, long included) {
+        if (packed == INVALID || included == INVALID) {
+            return false;
+        }
+        // the guard bit of a lane is only borrowed if the lane of included is bigger
+        return (((packed | GUARDS) - included) & GUARDS) == GUARDS;
+    }
+
+    public static int count(long packed) {
+        int count = 0;
+        for (int lane = 0; lane < LANES; lane++) {
+            count += get(packed, lane);
+        }
+        return count;
+    }
+
+    /**
+     * Compares the mana count like Mana.compareTo
+     *
+     * @param packed1
+     * @param packed2
+     * @return
+     */
+    public static int compare(long packed1, long packed2) {
+        return count(packed1) - count(packed2);
+    }
+
+    /**
+     * The same check as Mana.enough: can the available mana pay the cost, the
+     * mana of any color is used for missing colored mana.
+     *
+     * @param cost
+     * @param avail
+     * @return
+     */
+    public static boolean enough(long cost, long avail) {
+        int any = getAny(avail) - getAny(cost);
+        int remaining = 0;
+        for (int lane = RED; lane <= BLACK; lane++) {
+            int left = get(avail, lane) - get(cost, lane);
+            if (left < 0) {
+                any += left;
+                if (any < 0) {
+                    return false;
+                }
+            } else {
+                remaining += left;
+            }
+        }
+        int colorless = getColorless(avail) - getColorless(cost);
+        return colorless >= 0 || colorless + remaining + any >= 0;
+    }
+
+    public static int getRed(long packed) {
+        return get(packed, RED);
+    }
+
+    public static int getGreen(long packed) {
+        return get(packed, GREEN);
+    }
+
+    public static int getBlue(long packed) {
+        return get(packed, BLUE);
+    }
+
+    public static int getWhite(long packed) {
+        return get(packed, WHITE);
+    }
+
+    public static int getBlack(long packed) {
+        return get(packed, BLACK);
+    }
+
+    public static int getColorless(long packed) {
+        return get(packed, COLORLESS);
+    }
+
+    public static int getAny(long packed) {
+        return get(packed, ANY);
+    }
+
+    private static int get(long packed, int lane) {
+        return (int) ((packed >>> (lane * LANE_BITS)) & LANE_MASK);
+    }
+
+    private static boolean fits(int amount) {
+        return amount >= 0 && amount <= MAX_AMOUNT;
+    }
+}
@@ -30,9 +30,18 @@ package mage.abilities;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import mage.abilities.common.ZoneChangeTriggeredAbility;
 import mage.abilities.costs.AlternativeCost;
 import mage.abilities.costs.Cost;
@@ -48,6 +57,19 @@ import mage.game.Game;
  */
 public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Abilities<T> {
 
+    // smaller lists are searched without the id index
+    private static final int MIN_INDEXED_SIZE = 8;
+
+    private enum ViewType {
+        ACTIVATED, PLAYABLE, MANA, EVASION, STATIC, TRIGGERED, PROTECTION
+    }
+
+    // index and views are built on first use and dropped if the list was changed
+    private transient int indexedModCount = -1;
+    private transient Map<UUID, T> abilitiesById;
+    private transient Set<String> singletonRules;
+    private transient Map<ViewType, Map<Zone, Abilities<? extends Ability>>> views;
+
     public AbilitiesImpl() {}
 
     public AbilitiesImpl(T... abilities) {
@@ -118,48 +140,62 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
         return rules;
     }
 
+    /**
+     * The returned list is shared by all callers until this list is changed,
+     * so it can't be modified.
+     */
     @Override
     public Abilities<ActivatedAbility> getActivatedAbilities(Zone zone) {
-        Abilities<ActivatedAbility> zonedAbilities = new AbilitiesImpl<>();
-        for (T ability: this) {
-            if (ability instanceof ActivatedAbility && ability.getZone().match(zone)) {
-                zonedAbilities.add((ActivatedAbility)ability);
+        Abilities<ActivatedAbility> zonedAbilities = getView(ViewType.ACTIVATED, zone);
+        if (zonedAbilities == null) {
+            List<ActivatedAbility> abilities = new ArrayList<>();
+            for (T ability: this) {
+                if (ability instanceof ActivatedAbility && ability.getZone().match(zone)) {
+                    abilities.add((ActivatedAbility)ability);
+                }
             }
+            zonedAbilities = putView(ViewType.ACTIVATED, zone, abilities);
         }
         return zonedAbilities;
     }
 
     @Override
     public Abilities<ActivatedAbility> getPlayableAbilities(Zone zone) {
-        Abilities<ActivatedAbility> zonedAbilities = new AbilitiesImpl<>();
-        for (T ability: this) {
-            if (((ability instanceof SpellAbility) || (ability instanceof PlayLandAbility))
-                    && ability.getZone().match(zone)) {
-                zonedAbilities.add((ActivatedAbility)ability);
+        Abilities<ActivatedAbility> zonedAbilities = getView(ViewType.PLAYABLE, zone);
+        if (zonedAbilities == null) {
+            List<ActivatedAbility> abilities = new ArrayList<>();
+            for (T ability: this) {
+                if (((ability instanceof SpellAbility) || (ability instanceof PlayLandAbility))
+                        && ability.getZone().match(zone)) {
+                    abilities.add((ActivatedAbility)ability);
+                }
             }
+            zonedAbilities = putView(ViewType.PLAYABLE, zone, abilities);
         }
         return zonedAbilities;
     }
 
     @Override
     public Abilities<ManaAbility> getManaAbilities(Zone zone) {
-        Abilities<ManaAbility> abilities = new AbilitiesImpl<>();
-        for (T ability: this) {
-            if (ability instanceof ManaAbility && ability.getZone().match(zone)) {
-                abilities.add((ManaAbility)ability);
+        Abilities<ManaAbility> zonedAbilities = getView(ViewType.MANA, zone);
+        if (zonedAbilities == null) {
+            List<ManaAbility> abilities = new ArrayList<>();
+            for (T ability: this) {
+                if (ability instanceof ManaAbility && ability.getZone().match(zone)) {
+                    abilities.add((ManaAbility)ability);
+                }
             }
+            zonedAbilities = putView(ViewType.MANA, zone, abilities);
         }
-        return abilities;
+        return zonedAbilities;
     }
 
     @Override
     public Abilities<ManaAbility> getAvailableManaAbilities(Zone zone, Game game) {
         Abilities<ManaAbility> abilities = new AbilitiesImpl<>();
-        for (T ability: this) {
-            if (ability instanceof ManaAbility && ability.getZone().match(zone)) {
-                if ((((ManaAbility)ability).canActivate(ability.getControllerId(), game))) {
-                    abilities.add((ManaAbility)ability);
-                }
+        for (ManaAbility ability: getManaAbilities(zone)) {
+            if (ability.canActivate(ability.getControllerId(), game)) {
+                abilities.add(ability);
             }
         }
         return abilities;
@@ -167,52 +203,140 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public Abilities<EvasionAbility> getEvasionAbilities() {
-        Abilities<EvasionAbility> abilities = new AbilitiesImpl<>();
-        for (T ability: this) {
-            if (ability instanceof EvasionAbility) {
-                abilities.add((EvasionAbility)ability);
+        Abilities<EvasionAbility> evasionAbilities = getView(ViewType.EVASION, Zone.ALL);
+        if (evasionAbilities == null) {
+            List<EvasionAbility> abilities = new ArrayList<>();
+            for (T ability: this) {
+                if (ability instanceof EvasionAbility) {
+                    abilities.add((EvasionAbility)ability);
+                }
             }
+            evasionAbilities = putView(ViewType.EVASION, Zone.ALL, abilities);
         }
-        return abilities;
+        return evasionAbilities;
     }
 
     @Override
     public Abilities<StaticAbility> getStaticAbilities(Zone zone) {
-        Abilities<StaticAbility> zonedAbilities = new AbilitiesImpl<>();
-        for (T ability: this) {
-            if (ability instanceof StaticAbility && ability.getZone().match(zone)) {
-                zonedAbilities.add((StaticAbility)ability);
+        Abilities<StaticAbility> zonedAbilities = getView(ViewType.STATIC, zone);
+        if (zonedAbilities == null) {
+            List<StaticAbility> abilities = new ArrayList<>();
+            for (T ability: this) {
+                if (ability instanceof StaticAbility && ability.getZone().match(zone)) {
+                    abilities.add((StaticAbility)ability);
+                }
             }
+            zonedAbilities = putView(ViewType.STATIC, zone, abilities);
         }
         return zonedAbilities;
     }
 
     @Override
     public Abilities<TriggeredAbility> getTriggeredAbilities(Zone zone) {
-        Abilities<TriggeredAbility> zonedAbilities = new AbilitiesImpl<>();
-        for (T ability: this) {
-            if (ability instanceof TriggeredAbility && ability.getZone().match(zone)) {
-                zonedAbilities.add((TriggeredAbility)ability);
-            }
-            else if (ability instanceof ZoneChangeTriggeredAbility) {
-                ZoneChangeTriggeredAbility zcAbility = (ZoneChangeTriggeredAbility)ability;
-                if (zcAbility.getToZone() != null && zcAbility.getToZone().match(zone)) {
-                    zonedAbilities.add((ZoneChangeTriggeredAbility)ability);
+        Abilities<TriggeredAbility> zonedAbilities = getView(ViewType.TRIGGERED, zone);
+        if (zonedAbilities == null) {
+            List<TriggeredAbility> abilities = new ArrayList<>();
+            for (T ability: this) {
+                if (ability instanceof TriggeredAbility && ability.getZone().match(zone)) {
+                    abilities.add((TriggeredAbility)ability);
+                }
+                else if (ability instanceof ZoneChangeTriggeredAbility) {
+                    ZoneChangeTriggeredAbility zcAbility = (ZoneChangeTriggeredAbility)ability;
+                    if (zcAbility.getToZone() != null && zcAbility.getToZone().match(zone)) {
+                        abilities.add((ZoneChangeTriggeredAbility)ability);
+                    }
                 }
             }
+            zonedAbilities = putView(ViewType.TRIGGERED, zone, abilities);
         }
         return zonedAbilities;
     }
 
     @Override
     public Abilities<ProtectionAbility> getProtectionAbilities() {
-        Abilities<ProtectionAbility> abilities = new AbilitiesImpl<>();
-        for (T ability: this) {
-            if (ability instanceof ProtectionAbility) {
-                abilities.add((ProtectionAbility)ability);
+        Abilities<ProtectionAbility> protectionAbilities = getView(ViewType.PROTECTION, Zone.ALL);
+        if (protectionAbilities == null) {
+            List<ProtectionAbility> abilities = new ArrayList<>();
+            for (T ability: this) {
+                if (ability instanceof ProtectionAbility) {
+                    abilities.add((ProtectionAbility)ability);
+                }
             }
+            protectionAbilities = putView(ViewType.PROTECTION, Zone.ALL, abilities);
         }
-        return abilities;
+        return protectionAbilities;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <A extends Ability> Abilities<A> getView(ViewType viewType, Zone zone) {
+        checkIndexes();
+        if (views == null) {
+            return null;
+        }
+        Map<Zone, Abilities<? extends Ability>> zoneViews = views.get(viewType);
+        return zoneViews == null ? null : (Abilities<A>) zoneViews.get(zone);
+    }
+
+    private <A extends Ability> Abilities<A> putView(ViewType viewType, Zone zone, List<A> abilities) {
+        if (views == null) {
+            views = new EnumMap<>(ViewType.class);
+        }
+        Map<Zone, Abilities<? extends Ability>> zoneViews = views.get(viewType);
+        if (zoneViews == null) {
+            zoneViews = new EnumMap<>(Zone.class);
+            views.put(viewType, zoneViews);
+        }
+        Abilities<A> view = new AbilitiesView<>(abilities);
+        zoneViews.put(zone, view);
+        return view;
+    }
+
+    /**
+     * Drops the index and the views if the list was changed since they were built
+     */
+    private void checkIndexes() {
+        if (indexedModCount != modCount) {
+            abilitiesById = null;
+            singletonRules = null;
+            views = null;
+            indexedModCount = modCount;
+        }
+    }
+
+    private void invalidateIndexes() {
+        indexedModCount = -1;
+    }
+
+    private Map<UUID, T> getAbilitiesById() {
+        checkIndexes();
+        if (abilitiesById == null) {
+            abilitiesById = new HashMap<>();
+            for (T ability: this) {
+                if (!abilitiesById.containsKey(ability.getId())) {
+                    abilitiesById.put(ability.getId(), ability);
+                }
+            }
+        }
+        return abilitiesById;
+    }
+
+    private Set<String> getSingletonRules() {
+        checkIndexes();
+        if (singletonRules == null) {
+            singletonRules = new HashSet<>();
+            for (T ability: this) {
+                if (ability instanceof MageSingleton) {
+                    singletonRules.add(ability.getRule());
+                }
+            }
+        }
+        return singletonRules;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        invalidateIndexes();
+        return super.set(index, element);
     }
 
     @Override
@@ -234,6 +358,7 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
         for (Ability ability: this) {
             ability.newId();
         }
+        invalidateIndexes();
     }
 
     @Override
@@ -241,10 +366,18 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
         for (Ability ability: this) {
             ability.newOriginalId();
         }
+        invalidateIndexes();
     }
 
     @Override
     public boolean contains(T ability) {
+        if (size() >= MIN_INDEXED_SIZE) {
+            Map<UUID, T> index = getAbilitiesById();
+            if (index.containsKey(ability.getId()) || index.containsKey(ability.getOriginalId())) {
+                return true;
+            }
+            return ability instanceof MageSingleton && getSingletonRules().contains(ability.getRule());
+        }
         for (T test: this) {
             // Checking also by getRule() without other restrictions is a problem when a triggered ability will be copied to a permanent that had the same ability
             // already before the copy. Because then it keeps the triggered ability twice and it triggers twice.
@@ -287,6 +420,9 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public boolean containsKey(UUID abilityId) {
+        if (size() >= MIN_INDEXED_SIZE) {
+            return getAbilitiesById().containsKey(abilityId);
+        }
         for (T ability: this) {
             if (ability.getId().equals(abilityId)) {
                 return true;
@@ -297,6 +433,9 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public T get(UUID abilityId) {
+        if (size() >= MIN_INDEXED_SIZE) {
+            return getAbilitiesById().get(abilityId);
+        }
         for (T ability: this) {
             if (ability.getId().equals(abilityId)) {
                 return ability;
@@ -329,4 +468,114 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
         }
         return sb.toString();
     }
+
+    /**
+     * Read only list of abilities that is returned to all callers of a view
+     * until the original list is changed.
+     */
+    private static final class AbilitiesView<T extends Ability> extends AbilitiesImpl<T> {
+
+        private final boolean initialized;
+
+        AbilitiesView(List<T> abilities) {
+            super.addAll(abilities);
+            this.initialized = true;
+        }
+
+        private void checkModification() {
+            if (initialized) {
+                throw new UnsupportedOperationException("The abilities view can't be modified, use copy() to get a modifiable list");
+            }
+        }
+
+        @Override
+        public boolean add(T ability) {
+            checkModification();
+            return super.add(ability);
+        }
+
+        @Override
+        public void add(int index, T ability) {
+            checkModification();
+            super.add(index, ability);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends T> abilities) {
+            checkModification();
+            return super.addAll(abilities);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends T> abilities) {
+            checkModification();
+            return super.addAll(index, abilities);
+        }
+
+        @Override
+        public T set(int index, T ability) {
+            checkModification();
+            return super.set(index, ability);
+        }
+
+        @Override
+        public T remove(int index) {
+            checkModification();
+            return super.remove(index);
+        }
+
+        @Override
+        public boolean remove(Object ability) {
+            checkModification();
+            return super.remove(ability);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> abilities) {
+            checkModification();
+            return super.removeAll(abilities);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> abilities) {
+            checkModification();
+            return super.retainAll(abilities);
+        }
+
+        @Override
+        public void clear() {
+            checkModification();
+            super.clear();
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkModification();
+            super.removeRange(fromIndex, toIndex);
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            // the sub list of ArrayList writes set directly to the array of this list
+            return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super T> filter) {
+            checkModification();
+            return super.removeIf(filter);
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<T> operator) {
+            checkModification();
+            super.replaceAll(operator);
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            checkModification();
+            super.sort(comparator);
+        }
+    }
 }
@@ -83,6 +83,11 @@ public abstract class AbilityImpl implements Ability {
     protected boolean ruleAdditionalCostsVisible = true;
     protected boolean costModificationActive = true;
     protected boolean activated = false;
+    // rules built by getRule(false) and getRule(true) and the fingerprints they were built for
+    private transient String cachedRule;
+    private transient long cachedRuleFingerprint;
+    private transient String cachedRuleAll;
+    private transient long cachedRuleAllFingerprint;
 
     public AbilityImpl(AbilityType abilityType, Zone zone) {
         this.id = UUID.randomUUID();
@@ -117,6 +122,10 @@ public abstract class AbilityImpl implements Ability {
         this.ruleVisible = ability.ruleVisible;
         this.ruleAdditionalCostsVisible = ability.ruleAdditionalCostsVisible;
         this.costModificationActive = ability.costModificationActive;
+        this.cachedRule = ability.cachedRule;
+        this.cachedRuleFingerprint = ability.cachedRuleFingerprint;
+        this.cachedRuleAll = ability.cachedRuleAll;
+        this.cachedRuleAllFingerprint = ability.cachedRuleAllFingerprint;
     }
 
     @Override
@@ -134,8 +143,10 @@ public abstract class AbilityImpl implements Ability {
 
     @Override
     public void newOriginalId() {
-        this.id = UUID.randomUUID();
-        this.originalId = id;
+        if (!(this instanceof MageSingleton)) { // prevent to change singletons shared by all cards
+            this.id = UUID.randomUUID();
+            this.originalId = id;
+        }
         getEffects().newId();
     }
 
@@ -567,8 +578,40 @@ public abstract class AbilityImpl implements Ability {
         return getRule(false);
     }
 
+    /**
+     * The rule is built only once and is built again if the costs, modes,
+     * effects or targets of the ability are changed.
+     *
+     * @param all
+     * @return
+     */
     @Override
     public String getRule(boolean all) {
+        long fingerprint = getRuleFingerprint();
+        if (all) {
+            if (cachedRuleAll == null || cachedRuleAllFingerprint != fingerprint) {
+                cachedRuleAll = buildRule(true);
+                cachedRuleAllFingerprint = fingerprint;
+            }
+            return cachedRuleAll;
+        }
+        if (cachedRule == null || cachedRuleFingerprint != fingerprint) {
+            cachedRule = buildRule(false);
+            cachedRuleFingerprint = fingerprint;
+        }
+        return cachedRule;
+    }
+
+    private long getRuleFingerprint() {
+        long fingerprint = manaCosts.getRuleVersion();
+        fingerprint = fingerprint * 31 + costs.getRuleVersion();
+        fingerprint = fingerprint * 31 + (abilityWord == null ? 0 : abilityWord.ordinal() + 1);
+        fingerprint = fingerprint * 31 + (ruleAdditionalCostsVisible ? 1 : 0);
+        fingerprint = fingerprint * 31 + modes.getRuleVersion();
+        return fingerprint;
+    }
+
+    private String buildRule(boolean all) {
         StringBuilder sbRule = new StringBuilder();       
         if (all || this.abilityType != AbilityType.SPELL) {
             if (manaCosts.size() > 0) {
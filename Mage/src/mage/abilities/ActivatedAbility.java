@@ -52,6 +52,14 @@ public interface ActivatedAbility extends Ability {
      * what's playbable for the player.
      */
     void setCheckPlayableMode();
+
+    /**
+     * Sets or resets the check playable mode of the ability (e.g. if the
+     * ability itself is checked instead of a copy).
+     *
+     * @param checkPlayableMode
+     */
+    void setCheckPlayableMode(boolean checkPlayableMode);
     
     boolean isCheckPlayableMode();
 }
@@ -225,6 +225,11 @@ public abstract class ActivatedAbilityImpl extends AbilityImpl implements Activa
         checkPlayableMode = true;
     }
 
+    @Override
+    public void setCheckPlayableMode(boolean checkPlayableMode) {
+        this.checkPlayableMode = checkPlayableMode;
+    }
+
     @Override
     public boolean isCheckPlayableMode() {
         return checkPlayableMode;
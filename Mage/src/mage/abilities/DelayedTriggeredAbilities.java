@@ -29,6 +29,7 @@
 package mage.abilities;
 
 import java.util.Iterator;
+import java.util.Set;
 import mage.constants.Duration;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -60,6 +61,10 @@ import mage.game.events.GameEvent;
                         continue;
                     }
                 }
+                Set<GameEvent.EventType> triggerEvents = ability.getTriggerEvents();
+                if (triggerEvents != null && !triggerEvents.contains(event.getType())) {
+                    continue;
+                }
                 if (ability.checkTrigger(event, game)) {
                     ability.trigger(game, ability.controllerId);
                     if (ability.getTriggerOnlyOnce()) {
@@ -51,6 +51,8 @@ public class Modes extends LinkedHashMap<UUID, Mode> {
     private int minModes;
     private int maxModes;
     private TargetController modeChooser;
+    // changed if modes are added or removed or the number of modes to choose is changed
+    private int ruleVersion;
 
     public Modes() {
         Mode mode = new Mode();
@@ -71,6 +73,7 @@ public class Modes extends LinkedHashMap<UUID, Mode> {
         this.maxModes = modes.maxModes;
         this.selectedModes.addAll(modes.selectedModes);
         this.modeChooser = modes.modeChooser;
+        this.ruleVersion = modes.ruleVersion;
     }
 
     public Modes copy() {
@@ -87,6 +90,7 @@ public class Modes extends LinkedHashMap<UUID, Mode> {
 
     public void setMinModes(int minModes) {
         this.minModes = minModes;
+        this.ruleVersion++;
     }
 
     public int getMinModes() {
@@ -95,6 +99,7 @@ public class Modes extends LinkedHashMap<UUID, Mode> {
 
     public void setMaxModes(int maxModes) {
         this.maxModes = maxModes;
+        this.ruleVersion++;
     }
 
     public int getMaxModes() {
@@ -120,6 +125,39 @@ public class Modes extends LinkedHashMap<UUID, Mode> {
         this.put(mode.getId(), mode);
     }
 
+    @Override
+    public Mode put(UUID key, Mode mode) {
+        ruleVersion++;
+        return super.put(key, mode);
+    }
+
+    @Override
+    public Mode remove(Object key) {
+        ruleVersion++;
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        ruleVersion++;
+        super.clear();
+    }
+
+    /**
+     * Changes whenever a mode is added or removed, the number of modes to
+     * choose is changed or the targets or effects of a mode are changed.
+     *
+     * @return
+     */
+    public int getRuleVersion() {
+        int version = ruleVersion;
+        for (Mode mode: this.values()) {
+            version = version * 31 + mode.getTargets().getRuleVersion();
+            version = version * 31 + mode.getEffects().getRuleVersion();
+        }
+        return version;
+    }
+
     public boolean choose(Game game, Ability source) {
         if (this.size() > 1) {
             this.selectedModes.clear();
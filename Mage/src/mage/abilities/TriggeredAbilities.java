@@ -46,6 +46,10 @@ import java.util.*;
 public class TriggeredAbilities extends HashMap<String, TriggeredAbility> {
 
     private final Map<String, List<UUID>> sources = new HashMap<>();
+    // abilities that declared the event types they can trigger from
+    private final Map<GameEvent.EventType, Map<String, TriggeredAbility>> triggersByEvent = new EnumMap<>(GameEvent.EventType.class);
+    // abilities that have to check all events
+    private final Map<String, TriggeredAbility> allEventsTriggers = new HashMap<>();
 
     public TriggeredAbilities() {}
 
@@ -59,7 +63,15 @@ public class TriggeredAbilities extends HashMap<String, TriggeredAbility> {
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        for (TriggeredAbility ability: this.values()) {
+        checkTriggers(allEventsTriggers.values(), event, game);
+        Map<String, TriggeredAbility> eventTriggers = triggersByEvent.get(event.getType());
+        if (eventTriggers != null) {
+            checkTriggers(eventTriggers.values(), event, game);
+        }
+    }
+
+    private void checkTriggers(Collection<TriggeredAbility> abilities, GameEvent event, Game game) {
+        for (TriggeredAbility ability: abilities) {
             // for effects like when leaves battlefield use ShortLKI to check if permanent was in the correct zone before (e.g. Oblivion Ring)
             if (ability.isInUseableZone(game, null, event.getType().equals(GameEvent.EventType.ZONE_CHANGE))) {
                 if (!game.getContinuousEffects().preventedByRuleModification(event, ability, game, false)) {
@@ -134,6 +146,51 @@ public class TriggeredAbilities extends HashMap<String, TriggeredAbility> {
         this.put(getKey(ability, attachedTo), ability);
     }
 
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility ability) {
+        TriggeredAbility oldAbility = super.put(key, ability);
+        if (oldAbility != null) {
+            removeFromIndex(key);
+        }
+        Set<GameEvent.EventType> eventTypes = ability.getTriggerEvents();
+        if (eventTypes == null) {
+            allEventsTriggers.put(key, ability);
+        } else {
+            for (GameEvent.EventType eventType: eventTypes) {
+                Map<String, TriggeredAbility> eventTriggers = triggersByEvent.get(eventType);
+                if (eventTriggers == null) {
+                    eventTriggers = new HashMap<>();
+                    triggersByEvent.put(eventType, eventTriggers);
+                }
+                eventTriggers.put(key, ability);
+            }
+        }
+        return oldAbility;
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility ability = super.remove(key);
+        if (ability != null) {
+            removeFromIndex(key);
+        }
+        return ability;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        triggersByEvent.clear();
+        allEventsTriggers.clear();
+    }
+
+    private void removeFromIndex(Object key) {
+        allEventsTriggers.remove(key);
+        for (Map<String, TriggeredAbility> eventTriggers: triggersByEvent.values()) {
+            eventTriggers.remove(key);
+        }
+    }
+
     private String getKey(TriggeredAbility ability, MageObject target) {
         String key = ability.getId() + "_";
         if (target != null) {
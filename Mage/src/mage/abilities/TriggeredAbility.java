@@ -32,6 +32,7 @@ import mage.MageObject;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -45,4 +46,12 @@ public interface TriggeredAbility extends Ability {
     boolean checkInterveningIfClause(Game game);
     TriggeredAbility copy();
     void setSourceObject(MageObject mageObject);
+
+    /**
+     * Returns the event types the ability can trigger from. Only events of
+     * these types are checked for the ability.
+     *
+     * @return the event types or null if all events have to be checked
+     */
+    Set<GameEvent.EventType> getTriggerEvents();
 }
@@ -33,8 +33,10 @@ import mage.abilities.effects.Effect;
 import mage.constants.AbilityType;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 import mage.players.Player;
 
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -77,6 +79,11 @@ public abstract class TriggeredAbilityImpl extends AbilityImpl implements Trigge
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return null;
+    }
+
     @Override
     public boolean resolve(Game game) {
         MageObject object = game.getObject(sourceId);
@@ -35,6 +35,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -57,6 +60,11 @@ public class AttacksTriggeredAbility extends TriggeredAbilityImpl {
         this.text = ability.text;
     }
 
+    @Override
+    public Set<EventType> getTriggerEvents() {
+        return EnumSet.of(EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == EventType.ATTACKER_DECLARED && event.getSourceId().equals(this.getSourceId()) ) {
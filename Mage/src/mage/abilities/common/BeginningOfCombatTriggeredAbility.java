@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfCombatTriggeredAbility extends TriggeredAbilityImpl {
     
     private TargetController targetController;
@@ -34,6 +37,11 @@ public class BeginningOfCombatTriggeredAbility extends TriggeredAbilityImpl {
         return new BeginningOfCombatTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return EnumSet.of(GameEvent.EventType.BEGIN_COMBAT_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.BEGIN_COMBAT_STEP_PRE) {
@@ -9,6 +9,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfDrawTriggeredAbility extends TriggeredAbilityImpl {
     private TargetController targetController;
 
@@ -38,6 +41,11 @@ public class BeginningOfDrawTriggeredAbility extends TriggeredAbilityImpl {
         return new BeginningOfDrawTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return EnumSet.of(GameEvent.EventType.DRAW_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.DRAW_STEP_PRE) {
@@ -38,6 +38,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
     private TargetController targetController;
     private Condition interveningIfClauseCondition;
@@ -63,6 +66,11 @@ public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
         return new BeginningOfEndStepTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.END_TURN_STEP_PRE) {
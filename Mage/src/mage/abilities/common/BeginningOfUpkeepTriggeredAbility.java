@@ -37,6 +37,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author Loki
@@ -71,6 +74,11 @@ public class BeginningOfUpkeepTriggeredAbility extends TriggeredAbilityImpl {
         return new BeginningOfUpkeepTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.UPKEEP_STEP_PRE) {
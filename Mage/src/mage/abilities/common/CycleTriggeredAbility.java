@@ -36,6 +36,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author Plopman
@@ -59,6 +62,11 @@ public class CycleTriggeredAbility extends ZoneChangeTriggeredAbility {
         return true;
     }
     
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATED_ABILITY);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.ACTIVATED_ABILITY){
@@ -37,6 +37,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -63,6 +66,11 @@ public class DealsCombatDamageToAPlayerTriggeredAbility extends TriggeredAbility
         return new DealsCombatDamageToAPlayerTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getTriggerEvents() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == EventType.DAMAGED_PLAYER && event.getSourceId().equals(this.sourceId)
@@ -36,6 +36,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author jeff
@@ -62,6 +65,11 @@ public class DealsDamageToAPlayerTriggeredAbility extends TriggeredAbilityImpl {
         return new DealsDamageToAPlayerTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getTriggerEvents() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == EventType.DAMAGED_PLAYER && event.getSourceId().equals(this.sourceId)) {
@@ -37,6 +37,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -55,6 +58,11 @@ public class LandfallAbility extends TriggeredAbilityImpl {
         super(ability);
     }
 
+    @Override
+    public Set<EventType> getTriggerEvents() {
+        return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == EventType.ENTERS_THE_BATTLEFIELD) {
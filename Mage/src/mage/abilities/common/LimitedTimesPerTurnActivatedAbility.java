@@ -28,6 +28,7 @@
 
 package mage.abilities.common;
 
+import java.io.Serializable;
 import java.util.UUID;
 import mage.abilities.ActivatedAbilityImpl;
 import mage.abilities.costs.Cost;
@@ -42,7 +43,7 @@ import mage.util.CardUtil;
  */
 public class LimitedTimesPerTurnActivatedAbility extends ActivatedAbilityImpl {
 
-    class ActivationInfo {
+    static class ActivationInfo implements Serializable {
 
         public int turnNum;
         public int activationCounter;
@@ -38,6 +38,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.events.ZoneChangeEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Is applied when a {@link Permanent} matching the filter changes zones.
  *
@@ -70,6 +73,11 @@ public class ZoneChangeAllTriggeredAbility extends TriggeredAbilityImpl {
         this.filter = ability.filter;
     }
 
+    @Override
+    public Set<EventType> getTriggerEvents() {
+        return EnumSet.of(EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == EventType.ZONE_CHANGE) {
@@ -35,6 +35,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author North
@@ -57,6 +60,11 @@ public class AtEndOfTurnDelayedTriggeredAbility extends DelayedTriggeredAbility
         this.targetController = ability.targetController;
     }
 
+    @Override
+    public Set<EventType> getTriggerEvents() {
+        return EnumSet.of(EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == EventType.END_TURN_STEP_PRE) {
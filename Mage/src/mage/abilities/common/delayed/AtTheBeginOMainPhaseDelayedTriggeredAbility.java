@@ -36,6 +36,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -82,6 +85,11 @@ public class AtTheBeginOMainPhaseDelayedTriggeredAbility extends DelayedTriggere
         return new AtTheBeginOMainPhaseDelayedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getTriggerEvents() {
+        return EnumSet.of(EventType.PRECOMBAT_MAIN_PHASE_PRE, EventType.PRECOMBAT_MAIN_PHASE_POST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (checkPhase(event.getType())) {
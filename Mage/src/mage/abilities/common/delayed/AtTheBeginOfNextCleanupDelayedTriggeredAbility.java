@@ -12,6 +12,9 @@ import mage.constants.Duration;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -36,6 +39,11 @@ public class AtTheBeginOfNextCleanupDelayedTriggeredAbility extends DelayedTrigg
         return new AtTheBeginOfNextCleanupDelayedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return EnumSet.of(GameEvent.EventType.CLEANUP_STEP_PRE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CLEANUP_STEP_PRE;
@@ -5,6 +5,9 @@ import mage.abilities.effects.Effect;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class AtTheEndOfCombatDelayedTriggeredAbility extends DelayedTriggeredAbility {
     public AtTheEndOfCombatDelayedTriggeredAbility(Effect effect) {
         super(effect);
@@ -19,6 +22,11 @@ public class AtTheEndOfCombatDelayedTriggeredAbility extends DelayedTriggeredAbi
         return new AtTheEndOfCombatDelayedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return EnumSet.of(GameEvent.EventType.COMBAT_PHASE_POST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.COMBAT_PHASE_POST) {
@@ -32,6 +32,9 @@ import mage.abilities.effects.Effect;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author nantuko
  */
@@ -56,6 +59,11 @@ public class AtTheEndOfTurnStepPostDelayedTriggeredAbility extends DelayedTrigge
         return new AtTheEndOfTurnStepPostDelayedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_POST);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.END_TURN_STEP_POST) {
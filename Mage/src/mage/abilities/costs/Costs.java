@@ -34,6 +34,12 @@ public interface Costs<T extends Cost> extends List<T>, Cost {
 
     List<T> getUnpaid();
     List<VariableCost> getVariableCosts();
+    /**
+     * Changes whenever a cost is changed.
+     *
+     * @return
+     */
+    int getRuleVersion();
     @Override
     Costs<T> copy();
 }
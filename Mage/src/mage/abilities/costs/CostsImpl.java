@@ -44,12 +44,36 @@ import mage.target.Targets;
  */
 public class CostsImpl<T extends Cost> extends ArrayList<T> implements Costs<T> {
 
+    // counts the costs replaced by set, other changes are counted by modCount
+    private int replacements;
+
     public CostsImpl() {}
 
     public CostsImpl(final CostsImpl<T> costs) {
         for (Cost cost: costs) {
             this.add((T)cost.copy());
         }
+        this.modCount = costs.modCount;
+        this.replacements = costs.replacements;
+    }
+
+    @Override
+    public T set(int index, T cost) {
+        replacements++;
+        return super.set(index, cost);
+    }
+
+    @Override
+    public int getRuleVersion() {
+        int version = modCount * 31 + replacements;
+        for (Cost cost: this) {
+            if (cost instanceof Costs) {
+                version = version * 31 + ((Costs) cost).getRuleVersion();
+            } else if (cost instanceof ManaCosts) {
+                version = version * 31 + ((ManaCosts) cost).getRuleVersion();
+            }
+        }
+        return version;
     }
 
     @Override
@@ -45,6 +45,12 @@ public interface ManaCosts<T extends ManaCost> extends List<T>, ManaCost {
     void setX(int x);
     void load(String mana);
     List<String> getSymbols();
+    /**
+     * Changes whenever a mana cost is changed.
+     *
+     * @return
+     */
+    int getRuleVersion();
 
 
     @Override
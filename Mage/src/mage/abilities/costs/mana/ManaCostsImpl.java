@@ -29,10 +29,11 @@
 package mage.abilities.costs.mana;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import mage.Mana;
 import mage.abilities.Ability;
 import mage.abilities.costs.VariableCost;
@@ -51,8 +52,11 @@ import mage.target.Targets;
 public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements ManaCosts<T> {
 
     protected UUID id;
+    // counts the costs replaced by set, other changes are counted by modCount
+    private int replacements;
 
-    private static Map<String, ManaCosts> costs = new HashMap<>();
+    // cost string -> parsed costs, shared by all threads
+    private static final ConcurrentMap<String, List<ManaCost>> costs = new ConcurrentHashMap<>();
 
     public ManaCostsImpl() {
         this.id = UUID.randomUUID();
@@ -68,6 +72,19 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
         for (T cost : costs) {
             this.add((T) cost.copy());
         }
+        this.modCount = costs.modCount;
+        this.replacements = costs.replacements;
+    }
+
+    @Override
+    public T set(int index, T cost) {
+        replacements++;
+        return super.set(index, cost);
+    }
+
+    @Override
+    public int getRuleVersion() {
+        return modCount * 31 + replacements;
     }
 
     @Override
@@ -257,60 +274,72 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
     @Override
     public void load(String mana) {
         this.clear();
-        if (costs.containsKey(mana)) {
-            ManaCosts<T> savedCosts = costs.get(mana);
-            for (ManaCost cost : savedCosts) {
-                this.add((T) cost.copy());
-            }
-        } else {
-            if (mana == null || mana.length() == 0) {
-                return;
-            }
-            String[] symbols = mana.split("^\\{|\\}\\{|\\}$");
-            int modifierForX = 0;
-            for (String symbol : symbols) {
-                if (symbol.length() > 0) {
-                    if (symbol.length() == 1 || isNumeric(symbol)) {
-                        if (Character.isDigit(symbol.charAt(0))) {
-                            this.add((T) new GenericManaCost(Integer.valueOf(symbol)));
-                        } else {
-                            if (!symbol.equals("X")) {
-                                this.add((T) new ColoredManaCost(ColoredManaSymbol.lookup(symbol.charAt(0))));
-                            }
-                            else {
-                                // check X wasn't added before
-                                if (modifierForX == 0) {
-                                    // count X occurence
-                                    for (String s : symbols) {
-                                        if (s.equals("X")) {
-                                            modifierForX++;
-                                        }
+        if (mana == null || mana.length() == 0) {
+            return;
+        }
+        List<ManaCost> parsedCosts = costs.get(mana);
+        if (parsedCosts == null) {
+            parsedCosts = parse(mana);
+            costs.putIfAbsent(mana, parsedCosts);
+        }
+        for (ManaCost cost : parsedCosts) {
+            this.add((T) cost.copy());
+        }
+    }
+
+    /**
+     * Parses the mana symbols of the string
+     *
+     * @param mana
+     * @return the parsed costs, they must not be changed (only copies may be
+     * used as costs)
+     */
+    private static List<ManaCost> parse(String mana) {
+        List<ManaCost> parsed = new ArrayList<>();
+        String[] symbols = mana.split("^\\{|\\}\\{|\\}$");
+        int modifierForX = 0;
+        for (String symbol : symbols) {
+            if (symbol.length() > 0) {
+                if (symbol.length() == 1 || isNumeric(symbol)) {
+                    if (Character.isDigit(symbol.charAt(0))) {
+                        parsed.add(new GenericManaCost(Integer.valueOf(symbol)));
+                    } else {
+                        if (!symbol.equals("X")) {
+                            parsed.add(new ColoredManaCost(ColoredManaSymbol.lookup(symbol.charAt(0))));
+                        }
+                        else {
+                            // check X wasn't added before
+                            if (modifierForX == 0) {
+                                // count X occurence
+                                for (String s : symbols) {
+                                    if (s.equals("X")) {
+                                        modifierForX++;
                                     }
-                                    this.add((T) new VariableManaCost(modifierForX));
                                 }
+                                parsed.add(new VariableManaCost(modifierForX));
                             }
-                            //TODO: handle multiple {X} and/or {Y} symbols
                         }
+                        //TODO: handle multiple {X} and/or {Y} symbols
+                    }
+                } else {
+                    if(symbol.equals("snow"))
+                    {
+                        parsed.add(new SnowManaCost());
+                    }
+                    else if (Character.isDigit(symbol.charAt(0))) {
+                        parsed.add(new MonoHybridManaCost(ColoredManaSymbol.lookup(symbol.charAt(2))));
+                    } else if (symbol.contains("P")) {
+                        parsed.add(new PhyrexianManaCost(ColoredManaSymbol.lookup(symbol.charAt(0))));
                     } else {
-                        if(symbol.equals("snow"))
-                        {
-                            this.add((T) new SnowManaCost());
-                        }
-                        else if (Character.isDigit(symbol.charAt(0))) {
-                            this.add((T) new MonoHybridManaCost(ColoredManaSymbol.lookup(symbol.charAt(2))));
-                        } else if (symbol.contains("P")) {
-                            this.add((T) new PhyrexianManaCost(ColoredManaSymbol.lookup(symbol.charAt(0))));
-                        } else {
-                            this.add((T) new HybridManaCost(ColoredManaSymbol.lookup(symbol.charAt(0)), ColoredManaSymbol.lookup(symbol.charAt(2))));
-                        }
+                        parsed.add(new HybridManaCost(ColoredManaSymbol.lookup(symbol.charAt(0)), ColoredManaSymbol.lookup(symbol.charAt(2))));
                     }
                 }
             }
-            costs.put(mana, this.copy());
         }
+        return Collections.unmodifiableList(parsed);
     }
 
-    private boolean isNumeric(String symbol) {
+    private static boolean isNumeric(String symbol) {
         try {
             Integer.parseInt(symbol);
             return true;
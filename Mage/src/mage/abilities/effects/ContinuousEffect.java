@@ -33,9 +33,11 @@ import mage.constants.Layer;
 import mage.constants.SubLayer;
 import mage.abilities.Ability;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -59,6 +61,14 @@ public interface ContinuousEffect extends Effect {
     void overrideRuleText(String text);
     List<UUID> getAffectedObjects();
 
+    /**
+     * Returns the event types a replacement, prevention or rule modifying
+     * effect can apply to. The effect is only checked for events of these types.
+     *
+     * @return the event types or null if the effect has to be checked for all events
+     */
+    Set<GameEvent.EventType> getApplicableEvents();
+
     @Override
     void newId();
     @Override
@@ -38,6 +38,7 @@ import mage.abilities.dynamicvalue.common.SignInversionDynamicValue;
 import mage.abilities.dynamicvalue.common.StaticValue;
 import mage.constants.*;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 
 import java.util.*;
 
@@ -167,6 +168,11 @@ public abstract class ContinuousEffectImpl extends EffectImpl implements Continu
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return null;
+    }
+
     @Override
     public Layer getLayer() {
         return layer;
@@ -100,6 +100,11 @@ public class ContinuousEffects implements Serializable {
     // effect.id -> sourceId - which effect was added by which sourceId
     private final Map<UUID, UUID> sources = new HashMap<>();
 
+    // number of events checked for replacement, prevention and rule modifying effects
+    // and number of effects examined for these events
+    private long checkedEvents;
+    private long examinedEffects;
+
     public ContinuousEffects() {
         applyCounters = new ApplyCountersEffect();
         planeswalkerRedirectionEffect = new PlaneswalkerRedirectionEffect();
@@ -331,9 +336,11 @@ public class ContinuousEffects implements Serializable {
         if(auraReplacementEffect.applies(event, null, game)){
             replaceEffects.put(auraReplacementEffect, null);
         }
+        checkedEvents++;
         //get all applicable transient Replacement effects
-        for (ReplacementEffect effect: replacementEffects) {
-            if (event.getAppliedEffects() != null && event.getAppliedEffects().contains(effect.getId())) {
+        for (ReplacementEffect effect: replacementEffects.getEffects(event.getType())) {
+            examinedEffects++;
+            if (event.isEffectApplied(effect.getId())) {
                 // Effect already applied to this event, ignore it
                 // TODO: Handle also gained effect that are connected to different abilities.
                 continue;
@@ -355,8 +362,9 @@ public class ContinuousEffects implements Serializable {
                 replaceEffects.put(effect, applicableAbilities);
             }
         }
-        for (PreventionEffect effect: preventionEffects) {
-            if (event.getAppliedEffects() != null && event.getAppliedEffects().contains(effect.getId())) {
+        for (PreventionEffect effect: preventionEffects.getEffects(event.getType())) {
+            examinedEffects++;
+            if (event.isEffectApplied(effect.getId())) {
                 // Effect already applied to this event, ignore it
                 // TODO: Handle also gained effect that are connected to different abilities.
                 continue;
@@ -478,6 +486,25 @@ public class ContinuousEffects implements Serializable {
         return asThoughEffectsList;
     }
 
+    /**
+     * Checks if a cost modification effect applies to the ability without
+     * changing its costs.
+     *
+     * @param abilityToModify
+     * @param game
+     * @return
+     */
+    public boolean isCostModified(Ability abilityToModify, Game game) {
+        for (CostModificationEffect effect : getApplicableCostModificationEffects(game)) {
+            for (Ability ability : costModificationEffects.getAbility(effect.getId())) {
+                if (effect.applies(abilityToModify, ability, game)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * 601.2e The player determines the total cost of the spell. Usually this is
      * just the mana cost. Some spells have additional or alternative costs. Some
@@ -605,7 +632,9 @@ public class ContinuousEffects implements Serializable {
      * @return 
      */
     public boolean preventedByRuleModification(GameEvent event, Ability targetAbility, Game game, boolean checkPlayableMode) {
-       for (ContinuousRuleModifiyingEffect effect: continuousRuleModifyingEffects) {
+        checkedEvents++;
+       for (ContinuousRuleModifiyingEffect effect: continuousRuleModifyingEffects.getEffects(event.getType())) {
+            examinedEffects++;
             for (Ability sourceAbility : continuousRuleModifyingEffects.getAbility(effect.getId())) {
                 if (!(sourceAbility instanceof StaticAbility) || sourceAbility.isInUseableZone(game, null, false)) {
                     if (effect.getDuration() != Duration.OneUse || !effect.isUsed()) {
@@ -861,6 +890,26 @@ public class ContinuousEffects implements Serializable {
         }
     }
 
+    /**
+     * Returns the number of replacement, prevention and rule modifying effects
+     * that were examined for events since this object was created.
+     *
+     * @return
+     */
+    public long getExaminedEffectsCount() {
+        return examinedEffects;
+    }
+
+    /**
+     * Returns the number of events that were checked for replacement,
+     * prevention and rule modifying effects since this object was created.
+     *
+     * @return
+     */
+    public long getCheckedEventsCount() {
+        return checkedEvents;
+    }
+
     public void addEffect(ContinuousEffect effect, UUID sourceId, Ability source) {
         addEffect(effect, source);
         sources.put(effect.getId(), sourceId);
@@ -29,6 +29,7 @@ package mage.abilities.effects;
 
 import mage.abilities.Ability;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 
 import java.util.*;
 import mage.constants.Duration;
@@ -42,6 +43,9 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
 
     // the effectAbilityMap holds for each effect all abilities that are connected (used) with this effect
     private final Map<UUID, HashSet<Ability>> effectAbilityMap = new HashMap<>();
+    // the effects that can apply to an event type, the index is cleared if the list changes
+    private final Map<GameEvent.EventType, List<T>> effectsByEvent = new EnumMap<>(GameEvent.EventType.class);
+    private int indexModCount = -1;
 
     public ContinuousEffectsList() { }
 
@@ -149,6 +153,33 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
         this.add(effect);
     }
 
+    /**
+     * Returns the effects of the list that can apply to events of the given type
+     * (keeping the order of the list). Effects that don't define the event types
+     * they can apply to are always returned.
+     *
+     * @param eventType
+     * @return
+     */
+    public List<T> getEffects(GameEvent.EventType eventType) {
+        if (indexModCount != modCount) {
+            effectsByEvent.clear();
+            indexModCount = modCount;
+        }
+        List<T> effects = effectsByEvent.get(eventType);
+        if (effects == null) {
+            effects = new ArrayList<>();
+            for (T effect: this) {
+                Set<GameEvent.EventType> eventTypes = effect.getApplicableEvents();
+                if (eventTypes == null || eventTypes.contains(eventType)) {
+                    effects.add(effect);
+                }
+            }
+            effectsByEvent.put(eventType, effects);
+        }
+        return effects;
+    }
+
     public HashSet<Ability> getAbility(UUID effectId) {
         return effectAbilityMap.get(effectId);
     }
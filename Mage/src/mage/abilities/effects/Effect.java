@@ -51,6 +51,12 @@ public interface Effect extends Serializable {
     Outcome getOutcome();
     EffectType getEffectType();
     void setTargetPointer(TargetPointer targetPointer);
+    /**
+     * Changes whenever the text or the target pointer is changed.
+     *
+     * @return
+     */
+    int getRuleVersion();
     TargetPointer getTargetPointer();
     void setValue(String key, Object value);
     Object getValue(String key);
@@ -52,6 +52,8 @@ public abstract class EffectImpl implements Effect {
     protected String staticText = "";
     protected Map<String, Object> values;
     protected boolean applyEffectsAfter = false;
+    // changed with the text or the target pointer, the rule text of the ability depends on
+    protected int ruleVersion;
 
     public EffectImpl(Outcome outcome) {
         this.id = UUID.randomUUID();
@@ -72,6 +74,7 @@ public abstract class EffectImpl implements Effect {
             }
         }
         this.applyEffectsAfter = effect.applyEffectsAfter;
+        this.ruleVersion = effect.ruleVersion;
     }
 
     @Override
@@ -87,6 +90,12 @@ public abstract class EffectImpl implements Effect {
     @Override
     public void setText(String staticText) {
         this.staticText = staticText;
+        this.ruleVersion++;
+    }
+
+    @Override
+    public int getRuleVersion() {
+        return ruleVersion;
     }
 
     @Override
@@ -102,6 +111,7 @@ public abstract class EffectImpl implements Effect {
     @Override
     public void setTargetPointer(TargetPointer targetPointer) {
         this.targetPointer = targetPointer;
+        this.ruleVersion++;
     }
 
     @Override
@@ -41,12 +41,37 @@ import mage.constants.Outcome;
  */
 public class Effects extends ArrayList<Effect> {
 
+    // counts the effects replaced by set, other changes are counted by modCount
+    private int replacements;
+
     public Effects() {}
 
     public Effects(final Effects effects) {
         for (Effect effect: effects) {
             this.add(effect.copy());
         }
+        this.modCount = effects.modCount;
+        this.replacements = effects.replacements;
+    }
+
+    @Override
+    public Effect set(int index, Effect effect) {
+        replacements++;
+        return super.set(index, effect);
+    }
+
+    /**
+     * Changes whenever an effect is added, removed or replaced or the text
+     * or the target pointer of an effect is changed.
+     *
+     * @return
+     */
+    public int getRuleVersion() {
+        int version = modCount * 31 + replacements;
+        for (Effect effect: this) {
+            version = version * 31 + effect.getRuleVersion();
+        }
+        return version;
     }
 
     public Effects copy() {
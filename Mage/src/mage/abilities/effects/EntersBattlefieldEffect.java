@@ -39,6 +39,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.stack.Spell;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -88,6 +91,11 @@ public class EntersBattlefieldEffect extends ReplacementEffectImpl {
         baseEffects.add(effect);
     }
 
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == EventType.ENTERS_THE_BATTLEFIELD) {
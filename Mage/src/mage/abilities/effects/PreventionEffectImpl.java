@@ -36,6 +36,9 @@ import mage.game.Game;
 import mage.game.events.DamageEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  *
@@ -96,6 +99,11 @@ public abstract class PreventionEffectImpl extends ReplacementEffectImpl impleme
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.DAMAGE_CREATURE, GameEvent.EventType.DAMAGE_PLAYER, GameEvent.EventType.DAMAGE_PLANESWALKER);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         switch (event.getType()) {
@@ -35,6 +35,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -61,6 +64,11 @@ public class CantActivateAbilitiesAttachedEffect extends ContinuousRuleModifiyin
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATE_ABILITY);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == GameEvent.EventType.ACTIVATE_ABILITY) {
@@ -40,6 +40,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.stack.Spell;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -80,6 +83,11 @@ public class CantCounterControlledEffect extends ContinuousRuleModifiyingEffectI
         return true;
     }
 
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.COUNTER);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == EventType.COUNTER) {
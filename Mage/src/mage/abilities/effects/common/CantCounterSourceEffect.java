@@ -38,6 +38,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -73,6 +76,11 @@ public class CantCounterSourceEffect extends ContinuousRuleModifiyingEffectImpl
         return staticText;
     }
 
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.COUNTER);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == EventType.COUNTER) {
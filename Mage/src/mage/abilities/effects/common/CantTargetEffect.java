@@ -40,6 +40,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -81,6 +84,11 @@ public class CantTargetEffect extends ContinuousRuleModifiyingEffectImpl {
         return true;
     }
 
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.TARGET);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == EventType.TARGET) {
@@ -38,6 +38,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.stack.StackObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -67,6 +70,11 @@ public class CantTargetSourceEffect extends ContinuousRuleModifiyingEffectImpl {
         return true;
     }
 
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.TARGET);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == EventType.TARGET && event.getTargetId().equals(source.getSourceId())) {
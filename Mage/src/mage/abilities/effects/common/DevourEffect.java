@@ -28,7 +28,9 @@
 package mage.abilities.effects.common;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
@@ -106,6 +108,11 @@ public class DevourEffect extends ReplacementEffectImpl {
         this.devourFactor = effect.devourFactor;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD
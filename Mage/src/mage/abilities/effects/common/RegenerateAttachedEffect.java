@@ -28,6 +28,8 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.constants.AttachmentType;
@@ -83,6 +85,11 @@ public class RegenerateAttachedEffect extends ReplacementEffectImpl {
         return apply(game, source);
     }
 
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.DESTROY_PERMANENT);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         //20110204 - 701.11c - event.getAmount() is used to signal if regeneration is allowed
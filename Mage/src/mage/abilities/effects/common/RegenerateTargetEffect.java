@@ -38,6 +38,9 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author maurer.it_at_gmail.com
@@ -73,6 +76,11 @@ public class RegenerateTargetEffect  extends ReplacementEffectImpl {
         return apply(game, source);
     }
 
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.DESTROY_PERMANENT);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         //20110204 - 701.11c - event.getAmount() is used to signal if regeneration is allowed
@@ -37,6 +37,9 @@ import mage.constants.Outcome;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -68,6 +71,11 @@ public class SkipDrawStepEffect extends ReplacementEffectImpl {
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.DRAW_STEP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         return event.getType() == GameEvent.EventType.DRAW_STEP
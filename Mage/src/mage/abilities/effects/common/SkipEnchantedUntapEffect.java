@@ -9,6 +9,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author nantuko
  */
@@ -46,6 +49,11 @@ public class SkipEnchantedUntapEffect extends ContinuousRuleModifiyingEffectImpl
     }
 
     
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.UNTAP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (game.getTurn().getStepType() == PhaseStep.UNTAP && event.getType() == GameEvent.EventType.UNTAP) {
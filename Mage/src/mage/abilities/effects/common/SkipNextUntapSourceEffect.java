@@ -9,6 +9,9 @@ import mage.constants.PhaseStep;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class SkipNextUntapSourceEffect extends ContinuousRuleModifiyingEffectImpl {
 
     private int validForTurnNum;
@@ -43,6 +46,11 @@ public class SkipNextUntapSourceEffect extends ContinuousRuleModifiyingEffectImp
     }
 
     
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.UNTAP, GameEvent.EventType.UNTAP_STEP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         // the check for turn number is needed if multiple effects are added to prevent untap in next untap step
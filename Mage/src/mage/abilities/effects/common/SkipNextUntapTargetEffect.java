@@ -28,6 +28,8 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -87,6 +89,11 @@ public class SkipNextUntapTargetEffect extends ContinuousRuleModifiyingEffectImp
         return null;
     }
     
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.UNTAP, EventType.UNTAP_STEP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         // the check for turn number is needed if multiple effects are added to prevent untap in next untap step of controller
@@ -36,6 +36,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author North
@@ -61,6 +64,11 @@ public class SkipUntapSourceEffect extends ContinuousRuleModifiyingEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.UNTAP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (game.getTurn().getStepType() == PhaseStep.UNTAP
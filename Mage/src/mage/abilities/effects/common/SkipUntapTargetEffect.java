@@ -28,6 +28,8 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -75,6 +77,11 @@ public class SkipUntapTargetEffect extends ContinuousRuleModifiyingEffectImpl {
         return null;
     }
     
+    @Override
+    public Set<EventType> getApplicableEvents() {
+        return EnumSet.of(EventType.UNTAP);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (game.getTurn().getStepType() == PhaseStep.UNTAP && event.getType() == EventType.UNTAP) {
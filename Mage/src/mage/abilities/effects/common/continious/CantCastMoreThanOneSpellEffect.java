@@ -39,6 +39,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.watchers.common.CastSpellLastTurnWatcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  *
  * @author LevelX2
@@ -68,6 +71,11 @@ public class CantCastMoreThanOneSpellEffect extends ContinuousRuleModifiyingEffe
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == GameEvent.EventType.CAST_SPELL) {
@@ -28,6 +28,8 @@
 
 package mage.abilities.effects.common.ruleModifying;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.effects.ContinuousRuleModifiyingEffectImpl;
@@ -62,6 +64,11 @@ public class CantRegenerateTargetEffect extends ContinuousRuleModifiyingEffectIm
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.REGENERATE);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (GameEvent.EventType.REGENERATE.equals(event.getType())) {
@@ -44,6 +44,9 @@ import mage.game.permanent.Permanent;
 import mage.target.common.TargetCreaturePermanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 702.53. Haunt
  *
@@ -80,6 +83,11 @@ public class HauntAbility extends TriggeredAbilityImpl {
         return new HauntAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEvents() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD, GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (event.getType()) {
@@ -10,6 +10,9 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Split Second
  *
@@ -53,6 +56,11 @@ class SplitSecondEffect extends ContinuousRuleModifiyingEffectImpl {
         return "You can't cast spells or activate abilities that aren't mana abilities (Split second).";
     }
 
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL, GameEvent.EventType.ACTIVATE_ABILITY);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == GameEvent.EventType.CAST_SPELL) {
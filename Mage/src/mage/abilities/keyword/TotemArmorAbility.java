@@ -38,6 +38,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /*
  * 702.87. Totem Armor
  *
@@ -92,6 +95,11 @@ class TotemArmorEffect extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getApplicableEvents() {
+        return EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT);
+    }
+
     @Override
     public boolean applies(GameEvent event, Ability source, Game game) {
         if (event.getType() == GameEvent.EventType.DESTROY_PERMANENT) {
@@ -28,6 +28,7 @@
 
 package mage.abilities.mana;
 
+import java.io.Serializable;
 import java.util.UUID;
 import mage.abilities.costs.Cost;
 import mage.abilities.effects.common.AddManaOfAnyColorEffect;
@@ -42,7 +43,7 @@ import mage.util.CardUtil;
  */
 public class ActivateOncePerTurnManaAbility extends ManaAbility {
 
-    class ActivationInfo {
+    static class ActivationInfo implements Serializable {
 
         public int turnNum;
         public int activationCounter;
@@ -29,8 +29,12 @@
 package mage.abilities.mana;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import mage.Mana;
+import mage.PackedMana;
 import mage.game.Game;
 
 /**
@@ -41,9 +45,18 @@ import mage.game.Game;
  * it can be used to find all the ways to pay a mana cost
  * or all the different mana combinations available to a player
  *
+ * Options that are included in another option (no more mana of every type)
+ * are removed, because they can't pay anything the other option can't pay.
+ * A source that can produce one mana of every color adds one mana of any
+ * color instead of five options, that can pay the same costs.
+ *
  */
 public class ManaOptions extends ArrayList<Mana> {
 
+    private static final long[] ONE_MANA_OF_COLOR = {PackedMana.pack(Mana.RedMana(1)), PackedMana.pack(Mana.GreenMana(1)),
+        PackedMana.pack(Mana.BlueMana(1)), PackedMana.pack(Mana.WhiteMana(1)), PackedMana.pack(Mana.BlackMana(1))};
+    private static final long ONE_MANA_OF_ANY_COLOR = PackedMana.pack(new Mana(0, 0, 0, 0, 0, 0, 1));
+
     public ManaOptions () {};
 
     public ManaOptions(final ManaOptions options) {
@@ -62,17 +75,11 @@ public class ManaOptions extends ArrayList<Mana> {
                 addMana(abilities.get(0).getNetMana(game));
             }
             else if (abilities.size() > 1) {
-                //perform a union of all existing options and the new options
-                List<Mana> copy = copy();
-                this.clear();
+                List<Mana> netMana = new ArrayList<>(abilities.size());
                 for (ManaAbility ability: abilities) {
-                    for (Mana mana: copy) {
-                        Mana newMana = new Mana();
-                        newMana.add(mana);
-                        newMana.add(ability.getNetMana(game));
-                        this.add(newMana);
-                    }
+                    netMana.add(ability.getNetMana(game));
                 }
+                union(netMana);
             }
         }
     }
@@ -117,6 +124,7 @@ public class ManaOptions extends ArrayList<Mana> {
                         }
                     }
                 }
+                removeIncludedOptions();
             }
         }
     }
@@ -140,19 +148,277 @@ public class ManaOptions extends ArrayList<Mana> {
                 addMana(options.get(0));
             }
             else if (options.size() > 1) {
-                //perform a union of all existing options and the new options
-                List<Mana> copy = copy();
+                union(options);
+            }
+        }
+    }
+
+    /**
+     * Replaces the options with the union of all existing options and the new
+     * options. The sums are calculated packed, so only the options that are
+     * not included in another option are created.
+     */
+    private void union(List<Mana> addOptions) {
+        long[] packed = pack(this);
+        long[] packedAdd = pack(addOptions);
+        if (packedAdd != null) {
+            packedAdd = getSourceOptions(packedAdd);
+        }
+        if (packed != null && packedAdd != null) {
+            long[] sums = new long[packed.length * packedAdd.length];
+            int index = 0;
+            for (long addMana: packedAdd) {
+                for (long mana: packed) {
+                    long sum = PackedMana.add(mana, addMana);
+                    if (sum == PackedMana.INVALID) {
+                        break;
+                    }
+                    sums[index++] = sum;
+                }
+            }
+            if (index == sums.length) {
                 this.clear();
-                for (Mana addMana: options) {
-                    for (Mana mana: copy) {
-                        Mana newMana = new Mana();
-                        newMana.add(mana);
-                        newMana.add(addMana);
-                        this.add(newMana);
+                boolean[] kept = getKeptOptions(sums);
+                for (int i = 0; i < sums.length; i++) {
+                    if (kept[i]) {
+                        this.add(PackedMana.toMana(sums[i]));
+                    }
+                }
+                return;
+            }
+        }
+        //perform a union of all existing options and the new options
+        List<Mana> copy = copy();
+        this.clear();
+        for (Mana addMana: addOptions) {
+            for (Mana mana: copy) {
+                Mana newMana = new Mana();
+                newMana.add(mana);
+                newMana.add(addMana);
+                this.add(newMana);
+            }
+        }
+        removeIncludedOptions();
+    }
+
+    /**
+     * Returns true if one of the options is enough to pay one of the cost
+     * options (or if there are no cost options).
+     *
+     * @param costOptions e.g. ManaCosts.getOptions()
+     * @return
+     */
+    public boolean enough(ManaOptions costOptions) {
+        if (costOptions.isEmpty()) {
+            return true;
+        }
+        long[] packed = pack(this);
+        for (Mana cost: costOptions) {
+            long packedCost = PackedMana.pack(cost);
+            if (packed != null && packedCost != PackedMana.INVALID) {
+                for (long avail: packed) {
+                    if (PackedMana.enough(packedCost, avail)) {
+                        return true;
                     }
                 }
+            } else if (enough(cost)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if one of the options is enough to pay the cost
+     *
+     * @param cost
+     * @return
+     */
+    public boolean enough(Mana cost) {
+        for (Mana avail: this) {
+            if (cost.enough(avail)) {
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Removes the options that don't have more mana of any type than another
+     * option. The remaining options keep their order.
+     */
+    public void removeIncludedOptions() {
+        if (size() < 2) {
+            return;
+        }
+        long[] packed = pack(this);
+        if (packed != null && !hasFlag()) {
+            boolean[] kept = getKeptOptions(packed);
+            List<Mana> keptOptions = new ArrayList<>(size());
+            for (int i = 0; i < packed.length; i++) {
+                if (kept[i]) {
+                    keptOptions.add(get(i));
+                }
+            }
+            if (keptOptions.size() < size()) {
+                this.clear();
+                this.addAll(keptOptions);
+            }
+            return;
+        }
+        // an option can only include options with the same or a lower mana count
+        List<Mana> sorted = new ArrayList<>(this);
+        Collections.sort(sorted, Collections.reverseOrder());
+        List<Mana> kept = new ArrayList<>(sorted.size());
+        for (Mana mana: sorted) {
+            boolean included = false;
+            for (Mana keptMana: kept) {
+                if (includes(keptMana, mana)) {
+                    included = true;
+                    break;
+                }
+            }
+            if (!included) {
+                kept.add(mana);
+            }
+        }
+        if (kept.size() < size()) {
+            this.retainAll(kept);
+        }
+    }
+
+    /**
+     * Removes the included options of a source and replaces one mana of each
+     * color by one mana of any color. Mana of any color can pay exactly the
+     * costs one of the colors can pay.
+     *
+     * @param packed options of a source
+     * @return
+     */
+    private static long[] getSourceOptions(long[] packed) {
+        boolean[] kept = getKeptOptions(packed);
+        int count = 0;
+        int colors = 0;
+        for (int i = 0; i < packed.length; i++) {
+            if (kept[i]) {
+                count++;
+                int color = getColor(packed[i]);
+                if (color >= 0) {
+                    colors |= 1 << color;
+                }
+            }
+        }
+        boolean anyColor = colors == (1 << ONE_MANA_OF_COLOR.length) - 1;
+        long[] options = new long[anyColor ? count - ONE_MANA_OF_COLOR.length + 1 : count];
+        int index = 0;
+        for (int i = 0; i < packed.length; i++) {
+            if (kept[i] && !(anyColor && getColor(packed[i]) >= 0)) {
+                options[index++] = packed[i];
+            }
+        }
+        if (anyColor) {
+            options[index] = ONE_MANA_OF_ANY_COLOR;
+        }
+        return options;
+    }
+
+    /**
+     * @param packed
+     * @return the index in ONE_MANA_OF_COLOR or -1 if it's not one mana of a color
+     */
+    private static int getColor(long packed) {
+        for (int i = 0; i < ONE_MANA_OF_COLOR.length; i++) {
+            if (ONE_MANA_OF_COLOR[i] == packed) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Same as removeIncludedOptions for packed options
+     *
+     * @param packed
+     * @return for every option if it is kept
+     */
+    private static boolean[] getKeptOptions(long[] packed) {
+        // stable sort of the options by mana count descending
+        int[] counts = new int[packed.length];
+        int maxCount = 0;
+        for (int i = 0; i < packed.length; i++) {
+            counts[i] = PackedMana.count(packed[i]);
+            maxCount = Math.max(maxCount, counts[i]);
+        }
+        int[] start = new int[maxCount + 2];
+        for (int count: counts) {
+            start[maxCount - count + 1]++;
+        }
+        for (int i = 1; i < start.length; i++) {
+            start[i] += start[i - 1];
+        }
+        int[] sorted = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            sorted[start[maxCount - counts[i]]++] = i;
+        }
+        boolean[] kept = new boolean[packed.length];
+        long[] keptOptions = new long[packed.length];
+        int keptCount = 0;
+        // kept options with a higher mana count than the current option
+        int higherCount = 0;
+        int currentCount = -1;
+        Set<Long> sameCount = new HashSet<>();
+        for (int index: sorted) {
+            if (counts[index] != currentCount) {
+                currentCount = counts[index];
+                higherCount = keptCount;
+                sameCount.clear();
+            }
+            // options with the same mana count can only include each other if they are equal
+            boolean included = !sameCount.add(packed[index]);
+            for (int i = 0; !included && i < higherCount; i++) {
+                included = PackedMana.includes(keptOptions[i], packed[index]);
+            }
+            if (!included) {
+                keptOptions[keptCount++] = packed[index];
+                kept[index] = true;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * @param options
+     * @return the packed options or null if an option can't be packed
+     */
+    private static long[] pack(List<Mana> options) {
+        long[] packed = new long[options.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = PackedMana.pack(options.get(i));
+            if (packed[i] == PackedMana.INVALID) {
+                return null;
+            }
+        }
+        return packed;
+    }
+
+    private boolean hasFlag() {
+        for (Mana mana: this) {
+            if (mana.getFlag()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean includes(Mana mana, Mana included) {
+        return mana.getRed() >= included.getRed()
+                && mana.getGreen() >= included.getGreen()
+                && mana.getBlue() >= included.getBlue()
+                && mana.getWhite() >= included.getWhite()
+                && mana.getBlack() >= included.getBlack()
+                && mana.getColorless() >= included.getColorless()
+                && mana.getAny() >= included.getAny()
+                && mana.getFlag() == included.getFlag();
     }
 
     public ManaOptions copy() {
@@ -0,0 +1,484 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.abilities.mana;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import mage.Mana;
+import mage.abilities.costs.mana.ColoredManaCost;
+import mage.abilities.costs.mana.GenericManaCost;
+import mage.abilities.costs.mana.HybridManaCost;
+import mage.abilities.costs.mana.ManaCost;
+import mage.abilities.costs.mana.MonoHybridManaCost;
+import mage.abilities.costs.mana.PhyrexianManaCost;
+import mage.constants.ColoredManaSymbol;
+
+/**
+ * Finds the mana sources to use to pay a mana cost.
+ *
+ * Every source can be used once with one of its mana options (e.g. the
+ * different mana abilities of a land). Each source has a penalty (how useful
+ * the source is for other things), the solver finds the valid payment with the
+ * lowest sum of penalties of the used sources, so the most flexible sources
+ * stay untapped.
+ *
+ * Supported are colored, generic, hybrid and monocolored hybrid mana costs.
+ * The results are cached by the unpaid cost and the options and penalties of
+ * the sources.
+ *
+ * @author agent
+ */
+public class ManaPaymentSolver {
+
+    private static final ColoredManaSymbol[] COLORS = {ColoredManaSymbol.W, ColoredManaSymbol.U, ColoredManaSymbol.B, ColoredManaSymbol.R, ColoredManaSymbol.G};
+
+    // layout of the needed mana: colored W U B R G, the 10 hybrid color pairs, monocolored hybrid W U B R G, generic
+    private static final int HYBRID = 5;
+    private static final int MONO_HYBRID = 15;
+    private static final int GENERIC = 20;
+    private static final int SIZE = 21;
+
+    private static final int IMPOSSIBLE = Integer.MAX_VALUE;
+    private static final int UNKNOWN = -1;
+    private static final int MAX_DENSE_MEMO = 1 << 18;
+    private static final int MAX_CACHED_RESULTS = 4096;
+    private static final int[] NOT_PAYABLE = new int[0];
+
+    private static final ConcurrentMap<String, int[]> results = new ConcurrentHashMap<>();
+
+    private final int[][][] options; // options of each source as color amounts W U B R G colorless
+    private final int[] penalties;
+    private final boolean[] sameAsPrevious; // identical sources are only used in one order
+    private final int[] maxAmount; // maximal mana of the sources from the index on
+    private final int[] slots; // the slots of the needed mana that are used by the cost
+    private final long[] radix;
+    private final int boundRange;
+    // the memo is an array if the number of states is small enough
+    private final int[] denseMemo;
+    private final Map<Long, Integer> memo;
+
+    private ManaPaymentSolver(int[] needed, int[][][] options, int[] penalties, boolean[] sameAsPrevious) {
+        this.options = options;
+        this.penalties = penalties;
+        this.sameAsPrevious = sameAsPrevious;
+        // paying can only reduce the needed mana of a slot, a monocolored hybrid
+        // symbol paid with one generic mana adds one needed generic mana
+        int[] maxNeeded = needed.clone();
+        maxNeeded[GENERIC] += countMonoHybrid(needed);
+        int used = 0;
+        for (int value: maxNeeded) {
+            if (value > 0) {
+                used++;
+            }
+        }
+        this.slots = new int[used];
+        this.radix = new long[used];
+        long states = 1;
+        for (int i = 0, j = 0; i < SIZE; i++) {
+            if (maxNeeded[i] > 0) {
+                slots[j] = i;
+                radix[j] = states;
+                states *= maxNeeded[i] + 1;
+                j++;
+            }
+        }
+        int maxOptions = 0;
+        for (int[][] sourceOptions: options) {
+            maxOptions = Math.max(maxOptions, sourceOptions.length);
+        }
+        this.boundRange = maxOptions + 1;
+        long memoSize = states * (options.length + 1) * boundRange;
+        if (memoSize <= MAX_DENSE_MEMO) {
+            denseMemo = new int[(int) memoSize];
+            Arrays.fill(denseMemo, UNKNOWN);
+            memo = null;
+        } else {
+            denseMemo = null;
+            memo = new HashMap<>();
+        }
+        this.maxAmount = new int[options.length + 1];
+        for (int i = options.length - 1; i >= 0; i--) {
+            int max = 0;
+            for (int[] option: options[i]) {
+                int amount = 0;
+                for (int value: option) {
+                    amount += value;
+                }
+                max = Math.max(max, amount);
+            }
+            maxAmount[i] = maxAmount[i + 1] + max;
+        }
+    }
+
+    /**
+     * Checks if the cost consists only of mana symbols the solver can handle
+     *
+     * @param costs
+     * @return
+     */
+    public static boolean isSupported(List<? extends ManaCost> costs) {
+        return getNeeded(costs) != null;
+    }
+
+    /**
+     * Finds the sources to use to pay the cost
+     *
+     * @param costs the unpaid costs
+     * @param sources mana options of each source
+     * @param penalties the penalty of each source to use it
+     * @return the index of the option to use for each source or -1 if the
+     * source is not used, null if the cost can't be paid or is not supported
+     */
+    public static int[] solve(List<? extends ManaCost> costs, List<? extends List<Mana>> sources, int[] penalties) {
+        int[] needed = getNeeded(costs);
+        if (needed == null) {
+            return null;
+        }
+        int count = sources.size();
+        final int[][][] sourceOptions = new int[count][][];
+        int[][] expandedIndex = new int[count][];
+        final String[] sourceSignatures = new String[count];
+        Integer[] order = new Integer[count];
+        StringBuilder signature = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            List<Mana> manaOptions = sources.get(i);
+            int size = 0;
+            for (Mana mana: manaOptions) {
+                // mana of any color is one option for each color
+                size += mana.getAny() > 0 ? COLORS.length : 1;
+            }
+            sourceOptions[i] = new int[size][];
+            expandedIndex[i] = new int[size];
+            signature.setLength(0);
+            signature.append(penalties[i]);
+            for (int j = 0, k = 0; j < manaOptions.size(); j++) {
+                Mana mana = manaOptions.get(j);
+                int[] option = {mana.getWhite(), mana.getBlue(), mana.getBlack(), mana.getRed(), mana.getGreen(), mana.getColorless()};
+                for (int color = 0; color < (mana.getAny() > 0 ? COLORS.length : 1); color++, k++) {
+                    int[] expanded = option;
+                    if (mana.getAny() > 0) {
+                        expanded = option.clone();
+                        expanded[color] += mana.getAny();
+                    }
+                    sourceOptions[i][k] = expanded;
+                    expandedIndex[i][k] = j;
+                    signature.append(',');
+                    for (int value: expanded) {
+                        signature.append((char) ('0' + value));
+                    }
+                }
+            }
+            sourceSignatures[i] = signature.toString();
+            order[i] = i;
+        }
+        // the order of the sources doesn't matter, identical sources get neighbours
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return sourceSignatures[o1].compareTo(sourceSignatures[o2]);
+            }
+        });
+        int[][][] options = new int[count][][];
+        int[] sortedPenalties = new int[count];
+        boolean[] sameAsPrevious = new boolean[count];
+        signature.setLength(0);
+        for (int value: needed) {
+            signature.append((char) ('0' + value));
+        }
+        for (int i = 0; i < count; i++) {
+            options[i] = sourceOptions[order[i]];
+            sortedPenalties[i] = penalties[order[i]];
+            sameAsPrevious[i] = i > 0 && sourceSignatures[order[i]].equals(sourceSignatures[order[i - 1]]);
+            signature.append('|').append(sourceSignatures[order[i]]);
+        }
+        String key = signature.toString();
+        int[] sortedResult = results.get(key);
+        if (sortedResult == null) {
+            sortedResult = new ManaPaymentSolver(needed, options, sortedPenalties, sameAsPrevious).solve(needed);
+            if (results.size() >= MAX_CACHED_RESULTS) {
+                results.clear();
+            }
+            results.put(key, sortedResult);
+        }
+        if (sortedResult == NOT_PAYABLE) {
+            return null;
+        }
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            int source = order[i];
+            result[source] = sortedResult[i] < 0 ? -1 : expandedIndex[source][sortedResult[i]];
+        }
+        return result;
+    }
+
+    private int[] solve(int[] needed) {
+        int[] need = needed;
+        int bound = getBound(0, 0);
+        int cost = search(0, bound, need);
+        if (cost == IMPOSSIBLE) {
+            return NOT_PAYABLE;
+        }
+        int[] result = new int[options.length];
+        Arrays.fill(result, -1);
+        for (int i = 0; i < options.length && !isEmpty(need); i++) {
+            if (search(i + 1, getBound(i + 1, -1), need) == cost) {
+                // the source is not needed
+                bound = getBound(i + 1, -1);
+                continue;
+            }
+            search:
+            for (int j = 0; j <= bound; j++) {
+                for (int[] rest: pay(need, options[i][j])) {
+                    int restCost = search(i + 1, getBound(i + 1, j), rest);
+                    if (restCost != IMPOSSIBLE && penalties[i] + restCost == cost) {
+                        result[i] = j;
+                        need = rest;
+                        cost = restCost;
+                        bound = getBound(i + 1, j);
+                        break search;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The highest option index the source may use. A source identical to the
+     * previous one may not use a higher option than the previous one (or none
+     * if the previous one was not used), so the same payment is not searched
+     * in every order of the identical sources.
+     */
+    private int getBound(int index, int previousOption) {
+        if (index < options.length && sameAsPrevious[index]) {
+            return previousOption;
+        }
+        return index < options.length ? options[index].length - 1 : -1;
+    }
+
+    /**
+     * @return the lowest sum of penalties to pay the needed mana with the
+     * sources from the index on
+     */
+    private int search(int index, int bound, int[] need) {
+        int amount = 0;
+        for (int i = 0; i < SIZE; i++) {
+            amount += need[i];
+        }
+        if (amount == 0) {
+            return 0;
+        }
+        if (amount > maxAmount[index]) {
+            // every needed symbol needs at least one mana
+            return IMPOSSIBLE;
+        }
+        long state = 0;
+        for (int i = 0; i < slots.length; i++) {
+            state += need[slots[i]] * radix[i];
+        }
+        long key = (state * (options.length + 1) + index) * boundRange + bound + 1;
+        if (denseMemo != null && denseMemo[(int) key] != UNKNOWN) {
+            return denseMemo[(int) key];
+        }
+        if (memo != null && memo.containsKey(key)) {
+            return memo.get(key);
+        }
+        int best = search(index + 1, getBound(index + 1, -1), need);
+        for (int j = 0; j <= bound; j++) {
+            for (int[] restNeed: pay(need, options[index][j])) {
+                int rest = search(index + 1, getBound(index + 1, j), restNeed);
+                if (rest != IMPOSSIBLE && penalties[index] + rest < best) {
+                    best = penalties[index] + rest;
+                }
+            }
+        }
+        if (denseMemo != null) {
+            denseMemo[(int) key] = best;
+        } else {
+            memo.put(key, best);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the needed mana that can be left after paying with the mana of
+     * the option. Every mana of the option is tried for every symbol it can
+     * pay (e.g. red mana for {R/W}, {R/G} or {2/R}), so no payment is missed.
+     */
+    private static List<int[]> pay(int[] need, int[] option) {
+        List<int[]> rests = new ArrayList<>();
+        rests.add(need);
+        for (int color = 0; color <= COLORS.length; color++) {
+            for (int i = 0; i < option[color]; i++) {
+                List<int[]> next = new ArrayList<>();
+                for (int[] rest: rests) {
+                    payOne(rest, color, next);
+                }
+                rests = next;
+            }
+        }
+        return rests;
+    }
+
+    /**
+     * Adds the needed mana that can be left after paying with one mana of the
+     * color (or colorless mana for the index after the colors)
+     */
+    private static void payOne(int[] need, int color, List<int[]> rests) {
+        if (color < COLORS.length && need[color] > 0) {
+            // only mana of the color can pay the colored symbol, so using it for anything else is never better
+            addRest(rests, need, color, -1);
+            return;
+        }
+        boolean used = false;
+        if (color < COLORS.length) {
+            if (need[MONO_HYBRID + color] > 0) {
+                addRest(rests, need, MONO_HYBRID + color, -1);
+                used = true;
+            }
+            for (int other = 0; other < COLORS.length; other++) {
+                if (other != color && need[hybridIndex(color, other)] > 0) {
+                    addRest(rests, need, hybridIndex(color, other), -1);
+                    used = true;
+                }
+            }
+        }
+        if (need[GENERIC] > 0) {
+            addRest(rests, need, GENERIC, -1);
+            used = true;
+        }
+        // one generic mana pays half of a monocolored hybrid symbol, the other half is needed as generic mana
+        for (int other = 0; other < COLORS.length; other++) {
+            if (need[MONO_HYBRID + other] > 0) {
+                addRest(rests, need, MONO_HYBRID + other, GENERIC);
+                used = true;
+            }
+        }
+        if (!used) {
+            // the mana is not needed
+            addRest(rests, need, -1, -1);
+        }
+    }
+
+    private static void addRest(List<int[]> rests, int[] need, int paid, int added) {
+        int[] rest = need.clone();
+        if (paid >= 0) {
+            rest[paid]--;
+        }
+        if (added >= 0) {
+            rest[added]++;
+        }
+        for (int[] other: rests) {
+            if (Arrays.equals(other, rest)) {
+                return;
+            }
+        }
+        rests.add(rest);
+    }
+
+    private static boolean isEmpty(int[] need) {
+        for (int value: need) {
+            if (value > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countMonoHybrid(int[] need) {
+        int count = 0;
+        for (int color = 0; color < COLORS.length; color++) {
+            count += need[MONO_HYBRID + color];
+        }
+        return count;
+    }
+
+    private static int hybridIndex(int color1, int color2) {
+        int low = Math.min(color1, color2);
+        int high = Math.max(color1, color2);
+        // pairs (0,1) (0,2) (0,3) (0,4) (1,2) (1,3) (1,4) (2,3) (2,4) (3,4)
+        return HYBRID + low * (9 - low) / 2 + high - low - 1;
+    }
+
+    private static int colorIndex(ColoredManaSymbol symbol) {
+        for (int i = 0; i < COLORS.length; i++) {
+            if (COLORS[i] == symbol) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] getNeeded(List<? extends ManaCost> costs) {
+        int[] needed = new int[SIZE];
+        for (ManaCost cost: costs) {
+            if (cost.isPaid()) {
+                continue;
+            }
+            if (cost instanceof PhyrexianManaCost) {
+                return null;
+            } else if (cost instanceof ColoredManaCost) {
+                boolean found = false;
+                for (int color = 0; color < COLORS.length; color++) {
+                    if (cost.containsColor(COLORS[color])) {
+                        needed[color]++;
+                        found = true;
+                    }
+                }
+                if (!found) {
+                    return null;
+                }
+            } else if (cost instanceof GenericManaCost) {
+                needed[GENERIC] += cost.convertedManaCost() - cost.getPayment().count();
+            } else if (cost instanceof HybridManaCost) {
+                HybridManaCost hybrid = (HybridManaCost) cost;
+                needed[hybridIndex(colorIndex(hybrid.getMana1()), colorIndex(hybrid.getMana2()))]++;
+            } else if (cost instanceof MonoHybridManaCost) {
+                if (cost.getPayment().count() > 0) {
+                    needed[GENERIC] += 2 - cost.getPayment().count();
+                } else {
+                    for (int color = 0; color < COLORS.length; color++) {
+                        if (cost.containsColor(COLORS[color])) {
+                            needed[MONO_HYBRID + color]++;
+                        }
+                    }
+                }
+            } else {
+                return null;
+            }
+        }
+        return needed;
+    }
+}
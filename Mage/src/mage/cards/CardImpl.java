@@ -170,6 +170,17 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         this.abilities.setSourceId(objectId);
     }
 
+    /**
+     * Gives a copy of a prototype card new ids like a card that was built by
+     * its constructor.
+     */
+    void renewIds() {
+        assignNewId();
+        for (Watcher watcher: watchers) {
+            watcher.setSourceId(objectId);
+        }
+    }
+
     public static Card createCard(String name) {
         try {
             return createCard(Class.forName(name));
@@ -180,7 +191,24 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     }
 
     public static Card createCard(Class<?> clazz) {
+        return createCard(clazz, true);
+    }
+
+    /**
+     * Creates a card of the class
+     *
+     * @param clazz
+     * @param usePrototype true - the card is copied from the prototype of the
+     * class (see {@link CardPrototypes}), false - the card is built by its
+     * constructor and no prototype is kept (e.g. if all cards are created
+     * only once)
+     * @return
+     */
+    public static Card createCard(Class<?> clazz, boolean usePrototype) {
         try {
+            if (usePrototype) {
+                return CardPrototypes.createCard(clazz);
+            }
             Constructor<?> con = clazz.getConstructor(new Class[]{UUID.class});
             Card card = (Card) con.newInstance(new Object[]{null});
             card.build();
@@ -0,0 +1,228 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.cards;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Constructor;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import mage.abilities.Ability;
+import mage.abilities.MageSingleton;
+import mage.abilities.effects.Effect;
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import org.apache.log4j.Logger;
+
+/**
+ * Creates the cards of a class by copying a prototype of the class.
+ *
+ * The first card of a class is built by its constructor. If a second card of
+ * the class is created, a card is built and kept as prototype, all further
+ * cards are copies of the prototype with new ids. So classes that are only
+ * created once (e.g. for a card view) don't keep a card. Only the prototypes
+ * of the MAX_PROTOTYPES classes used last are kept. A prototype uses about 10
+ * KB (750 prototypes of three sets used 7 MB), so all prototypes use about 20
+ * MB at most. The tournaments and drafts call warmUp to create the
+ * prototypes of their sets before the boosters are opened.
+ *
+ * Cards that keep the id of the card or of one of its abilities (e.g. in a
+ * filter of an ability) can't be copied this way. They are detected when the
+ * prototype is created and are always built by their constructor, like split
+ * cards and double-faced cards (their halves or faces have ids of their own).
+ *
+ * @author agent
+ */
+public class CardPrototypes {
+
+    private static final Logger logger = Logger.getLogger(CardPrototypes.class);
+
+    public static final int MAX_PROTOTYPES = 2048;
+
+    // the least recently used classes are dropped first
+    private static final Map<Class<?>, Prototype> prototypes = new LinkedHashMap<Class<?>, Prototype>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Class<?>, Prototype> eldest) {
+            return size() > MAX_PROTOTYPES;
+        }
+    };
+
+    public static Card createCard(Class<?> clazz) throws ReflectiveOperationException {
+        Prototype prototype = get(clazz);
+        if (prototype == null) {
+            Constructor<?> constructor = clazz.getConstructor(UUID.class);
+            put(clazz, new Prototype(constructor, null, false));
+            return build(constructor);
+        }
+        if (!prototype.checked) {
+            prototype = createPrototype(clazz, prototype.constructor);
+        }
+        if (prototype.card == null) {
+            return build(prototype.constructor);
+        }
+        CardImpl card = (CardImpl) prototype.card.copy();
+        card.renewIds();
+        return card;
+    }
+
+    /**
+     * @return the number of classes with a prototype card
+     */
+    public static int getPrototypeCount() {
+        int count = 0;
+        synchronized (prototypes) {
+            for (Prototype prototype: prototypes.values()) {
+                if (prototype.card != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Creates the prototypes of all cards of the sets (e.g. of the sets of a
+     * tournament before the boosters are created).
+     *
+     * @param setCodes
+     */
+    public static void warmUp(String... setCodes) {
+        for (CardInfo cardInfo: CardRepository.instance.findCards(new CardCriteria().setCodes(setCodes))) {
+            try {
+                Class<?> clazz = Class.forName(cardInfo.getClassName());
+                Prototype prototype = get(clazz);
+                if (prototype == null || !prototype.checked) {
+                    createPrototype(clazz, clazz.getConstructor(UUID.class));
+                }
+            } catch (ReflectiveOperationException ex) {
+                logger.warn("Error creating prototype: " + cardInfo.getClassName(), ex);
+            }
+        }
+    }
+
+    private static Prototype get(Class<?> clazz) {
+        synchronized (prototypes) {
+            return prototypes.get(clazz);
+        }
+    }
+
+    private static void put(Class<?> clazz, Prototype prototype) {
+        synchronized (prototypes) {
+            prototypes.put(clazz, prototype);
+        }
+    }
+
+    private static Prototype createPrototype(Class<?> clazz, Constructor<?> constructor) throws ReflectiveOperationException {
+        Card card = build(constructor);
+        Prototype prototype = new Prototype(constructor, isCopyable(card) ? (CardImpl) card : null, true);
+        put(clazz, prototype);
+        return prototype;
+    }
+
+    private static Card build(Constructor<?> constructor) throws ReflectiveOperationException {
+        Card card = (Card) constructor.newInstance(new Object[]{null});
+        card.build();
+        return card;
+    }
+
+    /**
+     * Checks that a copy with new ids doesn't reference any id of the card or
+     * of its abilities and effects.
+     */
+    private static boolean isCopyable(Card card) {
+        if (!(card instanceof CardImpl) || card.isSplitCard() || card.canTransform()) {
+            return false;
+        }
+        Card copy = card.copy();
+        if (copy.getClass() != card.getClass()) {
+            return false;
+        }
+        ((CardImpl) copy).renewIds();
+        Set<UUID> ids = new HashSet<>();
+        ids.add(card.getId());
+        for (Ability ability: card.getAbilities()) {
+            if (!(ability instanceof MageSingleton)) {
+                ids.add(ability.getId());
+                for (Effect effect: ability.getEffects()) {
+                    ids.add(effect.getId());
+                }
+            }
+        }
+        byte[] bytes;
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+                oos.writeObject(copy);
+            }
+            bytes = out.toByteArray();
+        } catch (IOException ex) {
+            return false;
+        }
+        for (UUID id: ids) {
+            if (contains(bytes, id.getMostSignificantBits()) || contains(bytes, id.getLeastSignificantBits())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(byte[] bytes, long value) {
+        for (int i = 0; i <= bytes.length - 8; i++) {
+            int j = 0;
+            while (j < 8 && bytes[i + j] == (byte) (value >>> (56 - 8 * j))) {
+                j++;
+            }
+            if (j == 8) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Prototype {
+
+        private final Constructor<?> constructor;
+        // null if the cards have to be built by the constructor
+        private final CardImpl card;
+        // false until the second card of the class is created
+        private final boolean checked;
+
+        Prototype(Constructor<?> constructor, CardImpl card, boolean checked) {
+            this.constructor = constructor;
+            this.card = card;
+            this.checked = checked;
+        }
+    }
+
+}
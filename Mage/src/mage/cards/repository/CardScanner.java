@@ -60,7 +60,7 @@ public class CardScanner {
 
         for (Class c : ClassScanner.findClasses(packages, CardImpl.class)) {
             if (!CardRepository.instance.cardExists(c.getCanonicalName())) {
-                Card card = CardImpl.createCard(c);
+                Card card = CardImpl.createCard(c, false);
                 if (card != null) {
                     cardsToAdd.add(new CardInfo(card));
                     if (card instanceof SplitCard) {
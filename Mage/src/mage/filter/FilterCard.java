@@ -88,7 +88,10 @@ public class FilterCard extends FilterObject<Card> {
             return false;
         }
         
-        return Predicates.and(extraPredicates).apply(new ObjectPlayer(card, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return Predicates.<ObjectPlayer<Card>>apply(extraPredicates, new ObjectPlayer(card, playerId), game);
     }
 
     public boolean match(Card card, UUID sourceId, UUID playerId, Game game) {
@@ -96,11 +99,15 @@ public class FilterCard extends FilterObject<Card> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(card, sourceId, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return Predicates.<ObjectPlayer<Card>>apply(extraPredicates, new ObjectSourcePlayer(card, sourceId, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
         extraPredicates.add(predicate);
+        predicatesChanged();
     }
 
     public Set<Card> filter(Set<Card> cards, Game game) {
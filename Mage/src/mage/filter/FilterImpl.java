@@ -29,9 +29,24 @@
 package mage.filter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import mage.filter.predicate.Predicate;
-import mage.filter.predicate.Predicates;
+import mage.filter.predicate.mageobject.CardIdPredicate;
+import mage.filter.predicate.mageobject.CardTypePredicate;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.mageobject.ColorlessPredicate;
+import mage.filter.predicate.mageobject.NamePredicate;
+import mage.filter.predicate.mageobject.SubtypePredicate;
+import mage.filter.predicate.mageobject.SupertypePredicate;
+import mage.filter.predicate.permanent.AttackingPredicate;
+import mage.filter.predicate.permanent.BlockingPredicate;
+import mage.filter.predicate.permanent.ControllerIdPredicate;
+import mage.filter.predicate.permanent.PermanentIdPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.filter.predicate.permanent.TokenPredicate;
 import mage.game.Game;
 
 /**
@@ -42,8 +57,22 @@ import mage.game.Game;
  */
 public abstract class FilterImpl<E> implements Filter<E> {
 
+    /**
+     * Predicates that only check a simple attribute of the object. They are
+     * checked before all other predicates of the filter.
+     */
+    private static final Set<Class<?>> simplePredicates = new HashSet<Class<?>>(Arrays.asList(
+            CardTypePredicate.class, SupertypePredicate.class, SubtypePredicate.class,
+            ColorPredicate.class, ColorlessPredicate.class, NamePredicate.class, CardIdPredicate.class,
+            ControllerIdPredicate.class, PermanentIdPredicate.class, TappedPredicate.class, TokenPredicate.class,
+            AttackingPredicate.class, BlockingPredicate.class));
+
     protected List<Predicate<Object>> predicates = new ArrayList<>();
     protected String message;
+    // predicates in the order they are checked, created with the first match
+    private transient volatile Predicate<Object>[] compiledPredicates;
+    // shared with the copies of the filter until a predicate is added
+    private transient volatile Object matchKey;
 
     @Override
     public abstract FilterImpl<E> copy();
@@ -55,16 +84,73 @@ public abstract class FilterImpl<E> implements Filter<E> {
     public FilterImpl(FilterImpl filter) {
         this.message = filter.message;
         this.predicates = new ArrayList<>(filter.predicates);
+        this.compiledPredicates = filter.compiledPredicates;
+        this.matchKey = filter.getMatchKey();
     }
 
     @Override
     public boolean match(E e, Game game) {
-        return Predicates.and(predicates).apply(e, game);
+        Predicate<Object>[] compiled = compiledPredicates;
+        if (compiled == null) {
+            compiled = compilePredicates();
+            compiledPredicates = compiled;
+        }
+        for (Predicate<Object> predicate: compiled) {
+            if (!predicate.apply(e, game)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public final void add(Predicate predicate) {
+        if (predicate == null) {
+            throw new NullPointerException();
+        }
         predicates.add(predicate);
+        compiledPredicates = null;
+        predicatesChanged();
+    }
+
+    /**
+     * Returns an object that is the same for a filter and its copies as long
+     * as no predicate is added to one of them, so they match the same objects.
+     * Can be used as key for cached results of the filter (e.g. the possible
+     * targets of a target).
+     *
+     * @return
+     */
+    public Object getMatchKey() {
+        Object key = matchKey;
+        if (key == null) {
+            key = new Object();
+            matchKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Has to be called if the objects the filter matches can change
+     */
+    protected void predicatesChanged() {
+        matchKey = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<Object>[] compilePredicates() {
+        List<Predicate<Object>> compiled = new ArrayList<>(predicates.size());
+        for (Predicate<Object> predicate: predicates) {
+            if (simplePredicates.contains(predicate.getClass())) {
+                compiled.add(predicate);
+            }
+        }
+        for (Predicate<Object> predicate: predicates) {
+            if (!simplePredicates.contains(predicate.getClass())) {
+                compiled.add(predicate);
+            }
+        }
+        return compiled.toArray(new Predicate[compiled.size()]);
     }
 
     @Override
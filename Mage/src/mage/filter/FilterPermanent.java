@@ -69,11 +69,15 @@ public class FilterPermanent extends FilterObject<Permanent> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(permanent, sourceId, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return Predicates.<ObjectPlayer<Permanent>>apply(extraPredicates, new ObjectSourcePlayer(permanent, sourceId, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
         extraPredicates.add(predicate);
+        predicatesChanged();
     }
 
     @Override
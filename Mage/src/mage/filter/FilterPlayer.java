@@ -62,6 +62,7 @@ public class FilterPlayer extends FilterImpl<Player> {
 
     public void add(ObjectPlayerPredicate predicate) {
         extraPredicates.add(predicate);
+        predicatesChanged();
     }
 
     public boolean match(Player player, UUID sourceId, UUID playerId, Game game) {
@@ -69,7 +70,10 @@ public class FilterPlayer extends FilterImpl<Player> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(player, sourceId, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return Predicates.<ObjectPlayer<Player>>apply(extraPredicates, new ObjectSourcePlayer(player, sourceId, playerId), game);
     }
 
     @Override
@@ -64,11 +64,15 @@ public class FilterStackObject extends FilterObject<StackObject> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectPlayer(stackObject, playerId), game);
+        if (extraPredicates.isEmpty()) {
+            return true;
+        }
+        return Predicates.<ObjectPlayer<Permanent>>apply(extraPredicates, new ObjectPlayer(stackObject, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
         extraPredicates.add(predicate);
+        predicatesChanged();
     }
 
     @Override
@@ -132,6 +132,25 @@ public final class Predicates {
         return new OrPredicate<>(Predicates.<T>asList(first, second));
     }
 
+    /**
+     * Returns {@code true} if each of the predicates evaluates to {@code true}. The predicates are evaluated in
+     * order, and evaluation will be "short-circuited" as soon as a false predicate is found. Unlike
+     * {@link #and(Iterable)} no predicate object is created, so it can be used for frequently checked lists.
+     * @param <T>
+     * @param components
+     * @param t
+     * @param game
+     * @return 
+     */
+    public static <T> boolean apply(List<? extends Predicate<? super T>> components, T t, Game game) {
+        for (int i = 0; i < components.size(); i++) {
+            if (!components.get(i).apply(t, game)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * @see Predicates#not(Predicate)
      */
@@ -135,6 +135,14 @@ public interface Game extends MageItem, Serializable {
     void loadGameStates(GameStates states);
     Game copy();
     boolean isSimulation();
+
+    /**
+     * Simulated games are the copies the AI uses to test its options. They
+     * don't create game log messages, don't fire table and player query events
+     * and don't save states for undo, the rules are applied as in the live game.
+     *
+     * @param simulation
+     */
     void setSimulation(boolean simulation);
     MageObject getLastKnownInformation(UUID objectId, Zone zone);
     MageObject getLastKnownInformation(UUID objectId, Zone zone, int zoneChangeCounter);
@@ -170,6 +178,16 @@ public interface Game extends MageItem, Serializable {
     void fireStatusEvent(String message, boolean withTime);
     void fireUpdatePlayersEvent();
     void informPlayers(String message);
+    /**
+     * Informs the players with a message joined from the parts. Nothing is
+     * built for simulated games, so the callers can pass the parts of frequent
+     * messages without checking the game first. A part is added with its
+     * string value, so objects with a costly text (e.g. abilities) are only
+     * asked for it if the message is sent.
+     *
+     * @param messageParts
+     */
+    void informPlayers(Object... messageParts);
     void informPlayer(Player player, String message);
     void debugMessage(String message);
     void fireErrorEvent(String message, Exception ex);
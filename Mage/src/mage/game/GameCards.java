@@ -0,0 +1,171 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.game;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import mage.cards.Card;
+
+/**
+ * Holds all cards of a game.
+ *
+ * A copy made for a simulated game does not copy all the cards. Cards no game
+ * has handed out yet are shared with the game copied from and a card is only
+ * copied for a game the first time that game asks for it. So a simulation pays
+ * only for the cards it actually uses and not for both complete decks.
+ *
+ * Shared cards are never handed out, so no spell, effect or target can hold a
+ * reference to them and they are never changed. Cards a game has handed out
+ * (owned cards) can be changed by the game at any time, so a copy always gets
+ * its own copies of them and the game copied from is not changed by the copy.
+ *
+ * @author agent
+ */
+public class GameCards implements Serializable {
+
+    // cards that can be referenced by more than one game (never changed)
+    private Map<UUID, Card> shared;
+    // cards that only belong to this game (can be changed)
+    private Map<UUID, Card> owned;
+
+    public GameCards() {
+        this.shared = Collections.emptyMap();
+        this.owned = new HashMap<>();
+    }
+
+    /**
+     * Copies the cards
+     *
+     * @param cards
+     * @param shareCards true - the not yet accessed cards are shared with the
+     * source and only copied on first access, false - all cards are copied now
+     */
+    public GameCards(final GameCards cards, boolean shareCards) {
+        if (shareCards) {
+            this.shared = cards.shared;
+            this.owned = new HashMap<>(cards.owned.size());
+            for (Map.Entry<UUID, Card> entry : cards.owned.entrySet()) {
+                this.owned.put(entry.getKey(), entry.getValue().copy());
+            }
+        } else {
+            // nothing references the new copies yet, so they can be shared by the copies of this game
+            Map<UUID, Card> newShared = new HashMap<>(cards.size());
+            for (Map.Entry<UUID, Card> entry : cards.shared.entrySet()) {
+                newShared.put(entry.getKey(), entry.getValue().copy());
+            }
+            for (Map.Entry<UUID, Card> entry : cards.owned.entrySet()) {
+                newShared.put(entry.getKey(), entry.getValue().copy());
+            }
+            this.shared = newShared;
+            this.owned = new HashMap<>();
+        }
+    }
+
+    public Card get(UUID cardId) {
+        Card card = owned.get(cardId);
+        if (card == null) {
+            card = shared.get(cardId);
+            if (card != null) {
+                card = card.copy();
+                owned.put(cardId, card);
+            }
+        }
+        return card;
+    }
+
+    public boolean containsKey(UUID cardId) {
+        return owned.containsKey(cardId) || shared.containsKey(cardId);
+    }
+
+    public void put(UUID cardId, Card card) {
+        owned.put(cardId, card);
+    }
+
+    public void remove(UUID cardId) {
+        owned.remove(cardId);
+        if (shared.containsKey(cardId)) {
+            Map<UUID, Card> newShared = new HashMap<>(shared);
+            newShared.remove(cardId);
+            shared = newShared;
+        }
+    }
+
+    /**
+     * Returns all cards of the game. All still shared cards are copied, so
+     * this should not be used in simulations if it can be avoided.
+     *
+     * @return
+     */
+    public Collection<Card> values() {
+        if (!shared.isEmpty()) {
+            for (Map.Entry<UUID, Card> entry : shared.entrySet()) {
+                if (!owned.containsKey(entry.getKey())) {
+                    owned.put(entry.getKey(), entry.getValue().copy());
+                }
+            }
+            shared = Collections.emptyMap();
+        }
+        return owned.values();
+    }
+
+    public int size() {
+        if (shared.isEmpty()) {
+            return owned.size();
+        }
+        int size = shared.size();
+        for (UUID cardId : owned.keySet()) {
+            if (!shared.containsKey(cardId)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return number of cards that are not copied yet for this game
+     */
+    public int getSharedCount() {
+        int count = 0;
+        for (UUID cardId : shared.keySet()) {
+            if (!owned.containsKey(cardId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public void clear() {
+        shared = Collections.emptyMap();
+        owned.clear();
+    }
+}
@@ -92,7 +92,6 @@ import org.apache.log4j.Logger;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.*;
-import java.util.Map.Entry;
 
 public abstract class GameImpl implements Game, Serializable {
 
@@ -117,6 +116,7 @@ public abstract class GameImpl implements Game, Serializable {
     }
 
     private static Random rnd = new Random();
+    private static boolean verifyStateBasedActions = false;
 
 
     private transient Object customData;
@@ -127,10 +127,9 @@ public abstract class GameImpl implements Game, Serializable {
     protected transient TableEventSource tableEventSource = new TableEventSource();
     protected transient PlayerQueryEventSource playerQueryEventSource = new PlayerQueryEventSource();
 
-    protected Map<UUID, Card> gameCards = new HashMap<>();
-    protected Map<Zone,HashMap<UUID, MageObject>> lki = new EnumMap<>(Zone.class);
-    protected Map<UUID, Map<Integer, MageObject>> lkiExtended = new HashMap<>();
-    protected Map<Zone,HashMap<UUID, MageObject>> shortLivingLKI = new EnumMap<>(Zone.class);
+    protected GameCards gameCards = new GameCards();
+    protected LastKnownInformation lki = new LastKnownInformation();
+    protected LastKnownInformation shortLivingLKI = new LastKnownInformation();
 
     protected GameState state;
     private transient Stack<Integer> savedStates = new Stack<>();
@@ -156,6 +155,8 @@ public abstract class GameImpl implements Game, Serializable {
     // private int score = 0;
     private Player losingPlayer;
     private boolean stateCheckRequired = false;
+    // version of the game state for that the state based actions were checked without result
+    private long checkedStateVersion = -1;
 
     // used to indicate that currently applied replacement effects have to check for scope relevance (614.12 13/01/18)
     private boolean scopeRelevant = false;
@@ -185,20 +186,19 @@ public abstract class GameImpl implements Game, Serializable {
         this.attackOption = game.attackOption;
         this.state = game.state.copy();
         // Ai simulation modifies e.g. zoneChangeCounter so copy is needed if AI active
-        for (Map.Entry<UUID, Card> entry: game.gameCards.entrySet()) {
-            this.gameCards.put(entry.getKey(), entry.getValue().copy());
-        }
+        // copies of simulated games share the cards and copy them only on first access
+        this.gameCards = new GameCards(game.gameCards, game.simulation);
         this.simulation = game.simulation;
         this.gameOptions = game.gameOptions;
-        this.lki.putAll(game.lki);
-        this.lkiExtended.putAll(game.lkiExtended);
-        this.shortLivingLKI.putAll(game.shortLivingLKI);
+        this.lki = game.lki.copy();
+        this.shortLivingLKI = game.shortLivingLKI.copy();
         if (logger.isDebugEnabled()) {
             copyCount++;
             copyTime += (System.currentTimeMillis() - t1);
         }
 //        this.actions = new LinkedList<MageAction>();
         this.stateCheckRequired = game.stateCheckRequired;
+        this.checkedStateVersion = game.checkedStateVersion;
         this.scorePlayer = game.scorePlayer;
         this.scopeRelevant = game.scopeRelevant;
         this.priorityTime = game.priorityTime;
@@ -414,7 +414,7 @@ public abstract class GameImpl implements Game, Serializable {
     public void saveState(boolean bookmark) {
         if (!simulation && gameStates != null) {
             if (bookmark || saveGame) {
-                gameStates.save(state);
+                gameStates.save(state, bookmark);
             }
         }
     }
@@ -1056,6 +1056,7 @@ public abstract class GameImpl implements Game, Serializable {
                                 }
                                 // resetPassed should be called if player performs any action
                                 if (player.priority(this)) {
+                                    state.setEffectsDirty();
                                     applyEffects();
                                 }
                                 if (isPaused()) {
@@ -1073,6 +1074,7 @@ public abstract class GameImpl implements Game, Serializable {
                             if (!state.getStack().isEmpty()) {
                                 //20091005 - 115.4
                                 resolve();
+                                state.setEffectsDirty();
                                 applyEffects();
                                 state.getPlayers().resetPassed();
                                 fireUpdatePlayersEvent();
@@ -1341,7 +1343,35 @@ public abstract class GameImpl implements Game, Serializable {
         return played;
     }
 
+    /**
+     * Checks the state based actions. The permanents and players are only
+     * checked if the game state has changed since the last check that found
+     * nothing to do, because the state based actions only depend on the game
+     * state (see {@link GameState#getVersion()}).
+     *
+     * @return true if something happened
+     */
     protected boolean checkStateBasedActions() {
+        long version = state.getVersion();
+        boolean unchanged = version == checkedStateVersion;
+        if (unchanged && !verifyStateBasedActions) {
+            return false;
+        }
+        boolean somethingHappened = checkAllStateBasedActions();
+        if (unchanged && (somethingHappened || state.getVersion() != version)) {
+            logger.warn("State based actions were skipped but changed the game - turn " + state.getTurnNum() + " step " + state.getTurn().getStepType());
+        }
+        if (!somethingHappened && state.getVersion() == version) {
+            checkedStateVersion = version;
+        }
+        return somethingHappened;
+    }
+
+    public static void setVerifyStateBasedActions(boolean verifyStateBasedActions) {
+        GameImpl.verifyStateBasedActions = verifyStateBasedActions;
+    }
+
+    private boolean checkAllStateBasedActions() {
         boolean somethingHappened = false;
 
         //20091005 - 704.5a/704.5b/704.5c
@@ -1604,8 +1634,7 @@ public abstract class GameImpl implements Game, Serializable {
     private boolean movePermanentToGraveyardWithInfo(Permanent permanent) {
         boolean result = false;
         if (permanent.moveToZone(Zone.GRAVEYARD, null, this, false)) {
-            this.informPlayers(new StringBuilder(permanent.getLogName())
-                    .append(" is put into graveyard from battlefield").toString());
+            this.informPlayers(permanent.getLogName(), " is put into graveyard from battlefield");
             result = true;
         }
         return result;
@@ -1757,6 +1786,18 @@ public abstract class GameImpl implements Game, Serializable {
         fireInformEvent(message);
     }
 
+    @Override
+    public void informPlayers(Object... messageParts) {
+        if (simulation) {
+            return;
+        }
+        StringBuilder message = new StringBuilder();
+        for (Object part: messageParts) {
+            message.append(part);
+        }
+        fireInformEvent(message.toString());
+    }
+
     @Override
     public void debugMessage(String message) {
         logger.warn(message);
@@ -1927,14 +1968,15 @@ public abstract class GameImpl implements Game, Serializable {
             }
         }
 
-        Iterator it = gameCards.entrySet().iterator();
-        while(it.hasNext()) {
-            Entry<UUID,Card> entry = (Entry<UUID,Card>) it.next();
-            Card card = entry.getValue();
+        List<UUID> cardsToRemove = new ArrayList<>();
+        for (Card card: gameCards.values()) {
             if (card.getOwnerId().equals(playerId)) {
-                it.remove();
+                cardsToRemove.add(card.getId());
             }
         }
+        for (UUID cardId: cardsToRemove) {
+            gameCards.remove(cardId);
+        }
 
         // Update players in range of
         for (Player leftPlayer :this.getPlayers().values()) {
@@ -2014,12 +2056,8 @@ public abstract class GameImpl implements Game, Serializable {
             } else {
                 targetName = targetObject.getLogName();
             }
-            StringBuilder message = new StringBuilder(preventionSource.getLogName()).append(": Prevented ");
-            message.append(Integer.toString(result.getPreventedDamage())).append(" damage from ").append(damageSource.getName());
-            if (!targetName.isEmpty()) {
-                message.append(" to ").append(targetName);
-            }
-            game.informPlayers(message.toString());
+            game.informPlayers(preventionSource.getLogName(), ": Prevented ", result.getPreventedDamage(), " damage from ", damageSource.getName(),
+                    targetName.isEmpty() ? "":" to ", targetName);
         }
         game.fireEvent(GameEvent.getEvent(GameEvent.EventType.PREVENTED_DAMAGE, damageEvent.getTargetId(), source.getSourceId(), source.getControllerId(), result.getPreventedDamage()));
         return result;
@@ -2061,12 +2099,9 @@ public abstract class GameImpl implements Game, Serializable {
         /*if (!lki.containsKey(objectId)) {
             return getCard(objectId);
         }*/
-        Map<UUID, MageObject> lkiMap = lki.get(zone);
-        if (lkiMap != null) {
-            MageObject object = lkiMap.get(objectId);
-            if (object != null) {
-                return object.copy();
-            }
+        MageObject object = lki.get(objectId, zone);
+        if (object != null) {
+            return object.copy();
         }
         return null;
     }
@@ -2074,13 +2109,9 @@ public abstract class GameImpl implements Game, Serializable {
     @Override
     public MageObject getLastKnownInformation(UUID objectId, Zone zone, int zoneChangeCounter) {
         if (zone.equals(Zone.BATTLEFIELD)) {
-            Map<Integer, MageObject> lkiMapExtended = lkiExtended.get(objectId);
-
-            if (lkiMapExtended != null) {
-                MageObject object = lkiMapExtended.get(zoneChangeCounter);
-                if (object != null) {
-                    return object.copy();
-                }
+            MageObject object = lki.get(objectId, zoneChangeCounter);
+            if (object != null) {
+                return object.copy();
             }
         }
 
@@ -2089,12 +2120,9 @@ public abstract class GameImpl implements Game, Serializable {
 
     @Override
     public MageObject getShortLivingLKI(UUID objectId, Zone zone) {
-        Map<UUID, MageObject> shortLivingLkiMap = shortLivingLKI.get(zone);
-        if (shortLivingLkiMap != null) {
-            MageObject object = shortLivingLkiMap.get(objectId);
-            if (object != null) {
-                return object.copy();
-            }
+        MageObject object = shortLivingLKI.get(objectId, zone);
+        if (object != null) {
+            return object.copy();
         }
         return null;
     }
@@ -2111,33 +2139,10 @@ public abstract class GameImpl implements Game, Serializable {
         if (object instanceof Permanent || object instanceof StackObject) {
             MageObject copy = object.copy();
 
-            Map<UUID, MageObject> lkiMap = lki.get(zone);
-            if (lkiMap != null) {
-                lkiMap.put(objectId, copy);
-            } else {
-                HashMap<UUID, MageObject> newMap = new HashMap<>();
-                newMap.put(objectId, copy);
-                lki.put(zone, newMap);
-            }
-
-            Map<UUID, MageObject> shortLivingLkiMap = shortLivingLKI.get(zone);
-            if (shortLivingLkiMap != null) {
-                shortLivingLkiMap.put(objectId, copy);
-            } else {
-                HashMap<UUID, MageObject> newMap = new HashMap<>();
-                newMap.put(objectId, copy);
-                shortLivingLKI.put(zone, newMap);
-            }
-
+            lki.put(objectId, zone, copy);
+            shortLivingLKI.put(objectId, zone, copy);
             if (object instanceof Permanent) {
-                Map<Integer, MageObject> lkiExtendedMap = lkiExtended.get(objectId);
-                if (lkiExtendedMap != null) {
-                    lkiExtendedMap.put(((Permanent) object).getZoneChangeCounter(), copy);
-                } else {
-                    lkiExtendedMap = new HashMap<>();
-                    lkiExtendedMap.put(((Permanent) object).getZoneChangeCounter(), copy);
-                    lkiExtended.put(objectId, lkiExtendedMap);
-                }
+                lki.put(objectId, ((Permanent) object).getZoneChangeCounter(), copy);
             }
         }
     }
@@ -2148,7 +2153,6 @@ public abstract class GameImpl implements Game, Serializable {
     @Override
     public void resetLKI() {
         lki.clear();
-        lkiExtended.clear();
     }
 
     @Override
@@ -53,8 +53,10 @@ import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
 import mage.util.Copyable;
+import mage.util.ValueHash;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
+import org.apache.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.*;
@@ -71,6 +73,11 @@ import java.util.*;
 */
 public class GameState implements Serializable, Copyable<GameState> {
 
+    private static final transient Logger logger = Logger.getLogger(GameState.class);
+
+    // if set, each skipped applyEffects is checked against a full recalculation
+    private static boolean verifyEffects = false;
+
     private final Players players;
     private final PlayerList playerList;
     private final Turn turn;
@@ -102,8 +109,15 @@ public class GameState implements Serializable, Copyable<GameState> {
     private List<TriggeredAbility> triggered = new ArrayList<>();
     private Combat combat;
     private Map<String, Object> values = new HashMap<>();
-    private Map<UUID, Zone> zones = new HashMap<>();
+    private ZoneTable zones = new ZoneTable();
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
+    // true if something happened since the last time the continuous effects were applied
+    private boolean effectsDirty = true;
+    // raised every time something happens in the game
+    private long version;
+    // possible targets calculated for the current version of the state
+    private transient Map<Object, Set<UUID>> possibleTargets;
+    private transient long possibleTargetsVersion;
 
     public GameState() {
         players = new Players();
@@ -158,12 +172,15 @@ public class GameState implements Serializable, Copyable<GameState> {
             }
 
         }
-        this.zones.putAll(state.zones);
+        this.zones = state.zones.copy();
         for (Map.Entry<UUID, Abilities<Ability>> entry: state.otherAbilities.entrySet()) {
             otherAbilities.put(entry.getKey(), entry.getValue().copy());
         }
         this.paused = state.paused;
         this.simultaneousEvents.addAll(state.simultaneousEvents);
+        // the copied objects keep the values of the applied effects
+        this.effectsDirty = state.effectsDirty;
+        this.version = state.version;
     }
 
     @Override
@@ -174,6 +191,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     public void addPlayer(Player player) {
         players.put(player.getId(), player);
         playerList.add(player.getId());
+        stateChanged();
     }
 
     public String getValue(boolean useHidden) {
@@ -274,6 +292,70 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * Hash value of the same game state attributes as getValue(useHidden, game)
+     * uses. Used by the AI to compare simulated game states, so no strings are
+     * built. The permanents are added, so their order doesn't matter.
+     *
+     * @param useHidden
+     * @param game
+     * @return
+     */
+    public long getValueHash(boolean useHidden, Game game) {
+        long hash = ValueHash.hash(0, turnNum);
+        hash = ValueHash.hash(hash, turn.getPhaseType());
+        hash = ValueHash.hash(hash, turn.getStepType());
+        hash = ValueHash.hash(hash, activePlayerId);
+        hash = ValueHash.hash(hash, priorityPlayerId);
+
+        for (Player player: players.values()) {
+            hash = ValueHash.hash(hash, player.isPassed());
+            hash = ValueHash.hash(hash, player.getLife());
+            if (useHidden) {
+                hash = ValueHash.hash(hash, player.getHand());
+            }
+            hash = ValueHash.hash(hash, player.getHand().size());
+            hash = ValueHash.hash(hash, player.getLibrary().size());
+            for (Card card: player.getGraveyard().getCards(game)) {
+                hash = ValueHash.hash(hash, card.getName());
+            }
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent: battlefield.getAllPermanents()) {
+            permanentsHash += permanent.getValueHash();
+        }
+        hash = ValueHash.hash(hash, permanentsHash);
+
+        for (StackObject spell: stack) {
+            hash = ValueHash.hash(hash, spell.getControllerId());
+            hash = ValueHash.hash(hash, spell.getName());
+            hash = ValueHash.hash(hash, spell.getSourceId());
+            hash = ValueHash.hash(hash, spell.getStackAbility().getClass().getName());
+            for (Mode mode: spell.getStackAbility().getModes().values()) {
+                for (Target target: mode.getTargets()) {
+                    hash = ValueHash.hash(hash, target.getTargets());
+                }
+                for (Choice choice: mode.getChoices()) {
+                    hash = ValueHash.hash(hash, choice.getChoice());
+                }
+            }
+        }
+
+        for (ExileZone zone: exile.getExileZones()) {
+            hash = ValueHash.hash(hash, zone.getName());
+            hash = ValueHash.hash(hash, zone);
+        }
+
+        for (CombatGroup group: combat.getGroups()) {
+            hash = ValueHash.hash(hash, group.getDefenderId());
+            hash = ValueHash.hash(hash, group.getAttackers());
+            hash = ValueHash.hash(hash, group.getBlockers());
+        }
+
+        return hash;
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -288,6 +370,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setActivePlayerId(UUID activePlayerId) {
         this.activePlayerId = activePlayerId;
+        stateChanged();
     }
 
     public UUID getPriorityPlayerId() {
@@ -396,7 +479,31 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.gameOver = true;
     }
 
+    /**
+     * Applies all continuous effects to the objects of the game.
+     *
+     * The objects are reset and all layers are recalculated only if an event
+     * happened or the effects, abilities or zones have changed since the last
+     * call, because the result of the layer system only depends on those.
+     * The recalculation can be forced with {@link #setEffectsDirty()}.
+     *
+     * @param game
+     */
     public void applyEffects(Game game) {
+        if (!effectsDirty) {
+            if (verifyEffects) {
+                verifyAppliedEffects(game);
+            }
+            return;
+        }
+        // events fired while the effects are applied (e.g. control changes) need a new calculation
+        effectsDirty = false;
+        applyAllEffects(game);
+    }
+
+    private void applyAllEffects(Game game) {
+        // the effects can change what can be targeted (e.g. hexproof, protection or types) without raising the version
+        possibleTargets = null;
         for (Player player: players.values()) {
             player.reset();
         }
@@ -404,16 +511,115 @@ public class GameState implements Serializable, Copyable<GameState> {
         combat.reset();
         this.reset();
         effects.apply(game);
+        battlefield.effectsApplied();
+    }
+
+    private void verifyAppliedEffects(Game game) {
+        String applied = getAppliedEffectsValue();
+        applyAllEffects(game);
+        effectsDirty = false;
+        String recalculated = getAppliedEffectsValue();
+        if (!applied.equals(recalculated)) {
+            logger.warn("Applied continuous effects are outdated - turn " + turnNum + " step " + turn.getStepType());
+            logger.warn("Skipped:      " + applied);
+            logger.warn("Recalculated: " + recalculated);
+        }
+    }
+
+    private String getAppliedEffectsValue() {
+        StringBuilder sb = new StringBuilder(1024);
+        for (Player player: players.values()) {
+            sb.append(player.getId()).append(player.getLandsPerTurn()).append(player.getMaxHandSize());
+            sb.append(player.isCanLoseLife()).append(player.isCanGainLife()).append(player.canPayLifeCost());
+        }
+        for (Permanent permanent: battlefield.getAllPermanents()) {
+            sb.append("|").append(permanent.getName()).append(permanent.getControllerId());
+            sb.append(permanent.getPower().getValue()).append(":").append(permanent.getToughness().getValue());
+            sb.append(permanent.getCardType()).append(permanent.getSubtype()).append(permanent.getSupertype());
+            sb.append(permanent.getColor());
+            for (Ability ability: permanent.getAbilities()) {
+                sb.append(ability.getOriginalId());
+            }
+        }
+        sb.append(legendaryRuleActive).append(otherAbilities.size());
+        return sb.toString();
+    }
+
+    /**
+     * Forces a full recalculation of the continuous effects with the next
+     * call of applyEffects.
+     */
+    public void setEffectsDirty() {
+        stateChanged();
+    }
+
+    public boolean isEffectsDirty() {
+        return effectsDirty;
+    }
+
+    private void stateChanged() {
+        effectsDirty = true;
+        version++;
+    }
+
+    /**
+     * The version is raised by every event, zone change or added effect of
+     * the game state (and never gets lower, also not by restore). Values
+     * calculated for a version of the state are valid as long as the version
+     * doesn't change (e.g. the playable abilities of a player or the result
+     * of the state based actions check).
+     * Copies of the state keep the version.
+     *
+     * @return
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the possible targets that were stored for the key with the
+     * current version of the state and since the continuous effects were
+     * applied the last time.
+     *
+     * @param key
+     * @return the target ids or null if nothing was stored
+     */
+    public Set<UUID> getPossibleTargets(Object key) {
+        if (possibleTargets == null || possibleTargetsVersion != version) {
+            return null;
+        }
+        return possibleTargets.get(key);
+    }
+
+    /**
+     * Stores the possible targets for the key, they are kept until the version
+     * of the state changes or the continuous effects are applied again.
+     *
+     * @param key
+     * @param targetIds must not be changed after they are stored
+     */
+    public void setPossibleTargets(Object key, Set<UUID> targetIds) {
+        if (possibleTargets == null || possibleTargetsVersion != version) {
+            possibleTargets = new HashMap<>();
+            possibleTargetsVersion = version;
+        }
+        possibleTargets.put(key, targetIds);
+    }
+
+    public static void setVerifyEffects(boolean verifyEffects) {
+        GameState.verifyEffects = verifyEffects;
     }
 
     // Remove End of Combat effects
     public void removeEocEffects(Game game) {
+        stateChanged();
         effects.removeEndOfCombatEffects();
         delayed.removeEndOfCombatAbilities();
         applyEffects(game);
     }
 
     public void removeEotEffects(Game game) {
+        stateChanged();
         effects.removeEndOfTurnEffects();
         delayed.removeEndOfTurnAbilities();
         applyEffects(game);
@@ -421,10 +627,12 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void addEffect(ContinuousEffect effect, Ability source) {
         effects.addEffect(effect, source);
+        stateChanged();
     }
 
     public void addEffect(ContinuousEffect effect, UUID sourceId, Ability source) {
         effects.addEffect(effect, sourceId, source);
+        stateChanged();
     }
 
 //    public void addMessage(String message) {
@@ -469,14 +677,16 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public Zone getZone(UUID id) {
-        if (id != null && zones.containsKey(id)) {
+        if (id != null) {
             return zones.get(id);
         }
         return null;
     }
 
     public void setZone(UUID id, Zone zone) {
-        zones.put(id, zone);
+        if (zones.put(id, zone) != zone) {
+            stateChanged();
+        }
     }
 
     public void restore(GameState state) {
@@ -495,6 +705,7 @@ public class GameState implements Serializable, Copyable<GameState> {
             origPlayer.restore(copyPlayer);
         }
         this.simultaneousEvents = state.simultaneousEvents;
+        stateChanged();
     }
 
     public void addSimultaneousEvent(GameEvent event, Game game) {
@@ -517,12 +728,14 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        stateChanged();
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
     }
 
     public boolean replaceEvent(GameEvent event, Game game) {
+        stateChanged();
         if (effects.preventedByRuleModification(event, null, game, false)) {
             return true;
         }
@@ -530,6 +743,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void addCard(Card card) {
+        stateChanged();
         setZone(card.getId(), Zone.OUTSIDE);
         for (Watcher watcher: card.getWatchers()) {
             watcher.setControllerId(card.getOwnerId());
@@ -578,6 +792,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void addCommandObject(CommandObject commandObject) {
+        stateChanged();
         getCommand().add(commandObject);
         for (Ability ability: commandObject.getAbilities()) {
             addAbility(ability, commandObject);
@@ -629,6 +844,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setValue(String valueId, Object value) {
         values.put(valueId, value);
+        stateChanged();
     }
 
     /**
@@ -711,6 +927,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         values.clear();
         zones.clear();
         simultaneousEvents.clear();
+        stateChanged();
     }
 
     public void pause() {
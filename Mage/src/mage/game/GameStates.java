@@ -28,13 +28,24 @@
 
 package mage.game;
 
+import mage.util.BinaryDelta;
+import mage.util.Copier;
 import org.apache.log4j.Logger;
 
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * History of the states of a game.
+ *
+ * Bookmarked states (used for undo) are kept as full copies. All other states
+ * are serialized and kept compressed. Every KEY_FRAME_INTERVAL states a
+ * complete key frame is saved, the states between only keep the difference to
+ * their key frame. If the history gets bigger than the allowed number of
+ * bytes, the oldest key frames with their states are dropped. get returns null
+ * for such a dropped state and GameReplay skips it, so the replay of a long
+ * saved game starts with the oldest kept state.
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -42,12 +53,54 @@ public class GameStates implements Serializable {
 
     private static final transient Logger logger = Logger.getLogger(GameStates.class);
 
-//    private List<byte[]> states = new LinkedList<byte[]>();
-    private final List<GameState> states = new LinkedList<>();
+    public static final long DEFAULT_MAX_HISTORY_BYTES = 16 * 1024 * 1024;
+    private static final int KEY_FRAME_INTERVAL = 20;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final List<SavedState> states = new ArrayList<>();
+    private long maxHistoryBytes = DEFAULT_MAX_HISTORY_BYTES;
+    private long historyBytes = 0;
+
+    // serialized data of the last key frame, used to build the deltas of the following states
+    private transient byte[] keyFrameData;
+    private int keyFrameIndex = -1;
 
     public void save(GameState gameState) {
-//        states.add(new Copier<GameState>().copyCompressed(gameState));
-        states.add(gameState.copy());
+        save(gameState, false);
+    }
+
+    /**
+     *
+     * @param gameState
+     * @param bookmark bookmarked states are kept as full copy and are never
+     * dropped
+     */
+    public void save(GameState gameState, boolean bookmark) {
+        if (bookmark) {
+            states.add(new SavedState(gameState.copy()));
+        } else {
+            byte[] data = new Copier<GameState>().serialize(gameState);
+            if (data == null) {
+                states.add(new SavedState(gameState.copy()));
+            } else {
+                SavedState savedState = null;
+                if (keyFrameData != null && states.size() - keyFrameIndex < KEY_FRAME_INTERVAL) {
+                    byte[] delta = BinaryDelta.encode(keyFrameData, data);
+                    // the delta has to be noticeable smaller than a new key frame
+                    if (delta.length < states.get(keyFrameIndex).data.length / 2) {
+                        savedState = new SavedState(delta, keyFrameIndex);
+                    }
+                }
+                if (savedState == null) {
+                    keyFrameData = data;
+                    keyFrameIndex = states.size();
+                    savedState = new SavedState(BinaryDelta.encode(EMPTY, data), keyFrameIndex);
+                }
+                states.add(savedState);
+                historyBytes += savedState.data.length;
+                dropOldStates();
+            }
+        }
         logger.trace("Saved game state: " + states.size());
     }
 
@@ -55,33 +108,120 @@ public class GameStates implements Serializable {
         return states.size();
     }
 
+    /**
+     * @return the number of bytes used for all not bookmarked states
+     */
+    public long getHistoryBytes() {
+        return historyBytes;
+    }
+
+    public long getMaxHistoryBytes() {
+        return maxHistoryBytes;
+    }
+
+    public void setMaxHistoryBytes(long maxHistoryBytes) {
+        this.maxHistoryBytes = maxHistoryBytes;
+        dropOldStates();
+    }
+
     public GameState rollback(int index) {
         if (states.size() > 0 && index < states.size()) {
-            while (states.size() > index + 1) {
-                states.remove(states.size() - 1);
-            }
-//            return new Copier<GameState>().uncompressCopy(states.get(index));
+            truncate(index + 1);
             logger.debug("Rolling back state: " + index);
-            return states.get(index);
+            return restore(index);
         }
         return null;
     }
 
     public int remove(int index) {
         if (states.size() > 0 && index < states.size()) {
-            while (states.size() > index && states.size() > 0) {
-                states.remove(states.size() - 1);
-            }
+            truncate(index);
         }
         return states.size();
     }
 
     public GameState get(int index) {
         if (index < states.size()) {
-            // return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            return restore(index);
         }
         return null;
     }
 
+    private void truncate(int size) {
+        while (states.size() > size) {
+            SavedState removed = states.remove(states.size() - 1);
+            if (removed.data != null) {
+                historyBytes -= removed.data.length;
+            }
+        }
+        if (keyFrameIndex >= states.size()) {
+            keyFrameIndex = -1;
+            keyFrameData = null;
+        }
+    }
+
+    private GameState restore(int index) {
+        SavedState savedState = states.get(index);
+        if (savedState.state != null) {
+            return savedState.state;
+        }
+        if (savedState.data == null) {
+            return null; // dropped
+        }
+        byte[] data;
+        if (savedState.keyFrame == index) {
+            data = BinaryDelta.decode(EMPTY, savedState.data);
+        } else {
+            SavedState keyFrame = states.get(savedState.keyFrame);
+            if (keyFrame.data == null) {
+                return null;
+            }
+            data = BinaryDelta.decode(BinaryDelta.decode(EMPTY, keyFrame.data), savedState.data);
+        }
+        return new Copier<GameState>().deserialize(data);
+    }
+
+    /**
+     * Drops the oldest key frames with all their states until the history
+     * fits into the allowed number of bytes. The current key frame is never
+     * dropped.
+     */
+    private void dropOldStates() {
+        int index = 0;
+        while (historyBytes > maxHistoryBytes && index < keyFrameIndex) {
+            SavedState savedState = states.get(index);
+            if (savedState.data != null && savedState.keyFrame == index) {
+                for (int i = index; i < keyFrameIndex; i++) {
+                    SavedState state = states.get(i);
+                    if (state.keyFrame == index && state.data != null) {
+                        historyBytes -= state.data.length;
+                        state.data = null;
+                    }
+                }
+                logger.trace("Dropped game states of key frame: " + index);
+            }
+            index++;
+        }
+    }
+
+    private static class SavedState implements Serializable {
+
+        // full copy of a bookmarked state
+        private final GameState state;
+        // compressed key frame or delta to the key frame
+        private byte[] data;
+        private final int keyFrame;
+
+        SavedState(GameState state) {
+            this.state = state;
+            this.keyFrame = -1;
+        }
+
+        SavedState(byte[] data, int keyFrame) {
+            this.state = null;
+            this.data = data;
+            this.keyFrame = keyFrame;
+        }
+    }
+
 }
@@ -0,0 +1,146 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.game;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import mage.MageObject;
+import mage.constants.Zone;
+import mage.util.Copyable;
+
+/**
+ * Holds the objects remembered as last known information.
+ *
+ * The remembered objects are never changed, so a copy shares the maps with
+ * the store copied from. The maps are copied only if something is remembered
+ * in a store that shares them, so a copied game that never remembers an object
+ * doesn't pay for the maps. Reset only replaces the maps.
+ *
+ * @author agent
+ */
+public class LastKnownInformation implements Serializable, Copyable<LastKnownInformation> {
+
+    // zone -> object id -> object
+    private Map<Zone, Map<UUID, MageObject>> objects;
+    // object id -> zone change counter -> permanent
+    private Map<UUID, Map<Integer, MageObject>> permanents;
+    private boolean shared;
+
+    public LastKnownInformation() {
+        clear();
+    }
+
+    public LastKnownInformation(final LastKnownInformation lki) {
+        lki.shared = true;
+        this.objects = lki.objects;
+        this.permanents = lki.permanents;
+        this.shared = true;
+    }
+
+    @Override
+    public LastKnownInformation copy() {
+        return new LastKnownInformation(this);
+    }
+
+    public MageObject get(UUID objectId, Zone zone) {
+        Map<UUID, MageObject> zoneObjects = objects.get(zone);
+        if (zoneObjects != null) {
+            return zoneObjects.get(objectId);
+        }
+        return null;
+    }
+
+    public MageObject get(UUID objectId, int zoneChangeCounter) {
+        Map<Integer, MageObject> objectPermanents = permanents.get(objectId);
+        if (objectPermanents != null) {
+            return objectPermanents.get(zoneChangeCounter);
+        }
+        return null;
+    }
+
+    /**
+     * Remembers the object for the zone
+     *
+     * @param objectId
+     * @param zone
+     * @param object must not be changed after it was remembered
+     */
+    public void put(UUID objectId, Zone zone, MageObject object) {
+        unshare();
+        Map<UUID, MageObject> zoneObjects = objects.get(zone);
+        if (zoneObjects == null) {
+            zoneObjects = new HashMap<>();
+            objects.put(zone, zoneObjects);
+        }
+        zoneObjects.put(objectId, object);
+    }
+
+    /**
+     * Remembers the permanent for its zone change counter
+     *
+     * @param objectId
+     * @param zoneChangeCounter
+     * @param object must not be changed after it was remembered
+     */
+    public void put(UUID objectId, int zoneChangeCounter, MageObject object) {
+        unshare();
+        Map<Integer, MageObject> objectPermanents = permanents.get(objectId);
+        if (objectPermanents == null) {
+            objectPermanents = new HashMap<>();
+            permanents.put(objectId, objectPermanents);
+        }
+        objectPermanents.put(zoneChangeCounter, object);
+    }
+
+    public final void clear() {
+        objects = new EnumMap<>(Zone.class);
+        permanents = new HashMap<>();
+        shared = false;
+    }
+
+    private void unshare() {
+        if (shared) {
+            Map<Zone, Map<UUID, MageObject>> newObjects = new EnumMap<>(Zone.class);
+            for (Map.Entry<Zone, Map<UUID, MageObject>> entry: objects.entrySet()) {
+                newObjects.put(entry.getKey(), new HashMap<>(entry.getValue()));
+            }
+            Map<UUID, Map<Integer, MageObject>> newPermanents = new HashMap<>(permanents.size());
+            for (Map.Entry<UUID, Map<Integer, MageObject>> entry: permanents.entrySet()) {
+                newPermanents.put(entry.getKey(), new HashMap<>(entry.getValue()));
+            }
+            objects = newObjects;
+            permanents = newPermanents;
+            shared = false;
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.game;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import mage.constants.Zone;
+import mage.util.Copyable;
+
+/**
+ * Holds the zones of the objects of a game.
+ *
+ * Every object id gets a dense int handle and the zones are kept in an array
+ * indexed by that handle. The handles never change, so a copy of the table
+ * shares the handles with the table copied from and only copies the array.
+ * The handles are copied only when a new id is added to a table that shares
+ * its handles.
+ *
+ * @author agent
+ */
+public class ZoneTable implements Serializable, Copyable<ZoneTable> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // object id -> index in zones (never changed as long as it's shared)
+    private Map<UUID, Integer> handles;
+    private boolean handlesShared;
+    private Zone[] zones;
+
+    public ZoneTable() {
+        this.handles = new HashMap<>();
+        this.zones = new Zone[INITIAL_CAPACITY];
+    }
+
+    public ZoneTable(final ZoneTable table) {
+        table.handlesShared = true;
+        this.handles = table.handles;
+        this.handlesShared = true;
+        this.zones = Arrays.copyOf(table.zones, Math.max(table.handles.size(), INITIAL_CAPACITY));
+    }
+
+    @Override
+    public ZoneTable copy() {
+        return new ZoneTable(this);
+    }
+
+    public Zone get(UUID id) {
+        Integer handle = handles.get(id);
+        if (handle == null) {
+            return null;
+        }
+        return zones[handle];
+    }
+
+    /**
+     * Sets the zone of the object
+     *
+     * @param id
+     * @param zone
+     * @return the previous zone of the object
+     */
+    public Zone put(UUID id, Zone zone) {
+        Integer handle = handles.get(id);
+        if (handle == null) {
+            if (handlesShared) {
+                handles = new HashMap<>(handles);
+                handlesShared = false;
+            }
+            handle = handles.size();
+            handles.put(id, handle);
+            if (handle >= zones.length) {
+                zones = Arrays.copyOf(zones, zones.length * 2);
+            }
+        }
+        Zone previous = zones[handle];
+        zones[handle] = zone;
+        return previous;
+    }
+
+    public int size() {
+        return handles.size();
+    }
+
+    public void clear() {
+        handles = new HashMap<>();
+        handlesShared = false;
+        zones = new Zone[INITIAL_CAPACITY];
+    }
+
+}
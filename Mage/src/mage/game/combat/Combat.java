@@ -74,6 +74,12 @@ public class Combat implements Serializable, Copyable<Combat> {
     private final Map<UUID, Set<UUID>> creaturesForcedToAttack = new HashMap<>();
     private int maxAttackers = Integer.MIN_VALUE;
 
+    // applicable requirement and restriction effects of each creature, valid
+    // as long as the version of the game state doesn't change
+    private transient long effectsVersion = -1;
+    private transient Map<UUID, Map<RequirementEffect, HashSet<Ability>>> requirementEffects;
+    private transient Map<UUID, Map<RestrictionEffect, HashSet<Ability>>> restrictionEffects;
+
     public Combat() {
         this.useToughnessForDamage = false;
     }
@@ -142,6 +148,7 @@ public class Combat implements Serializable, Copyable<Combat> {
     }
 
     public void clear() {
+        clearEffects();
         groups.clear();
         blockingGroups.clear();
         defenders.clear();
@@ -212,7 +219,7 @@ public class Combat implements Serializable, Copyable<Combat> {
             }
         }
         game.fireEvent(GameEvent.getEvent(GameEvent.EventType.DECLARED_ATTACKERS, attackerId, attackerId));
-        game.informPlayers(new StringBuilder(player.getName()).append(" attacks with ").append(groups.size()).append(groups.size() == 1 ? " creature":" creatures").toString());
+        game.informPlayers(player.getName(), " attacks with ", groups.size(), groups.size() == 1 ? " creature":" creatures");
     }
 
     protected void checkAttackRequirements(Player player, Game game) {
@@ -220,7 +227,7 @@ public class Combat implements Serializable, Copyable<Combat> {
         for (Permanent creature : player.getAvailableAttackers(game)) {
             boolean mustAttack = false;
             Set<UUID> defendersForcedToAttack = new HashSet<>();
-            for (Map.Entry<RequirementEffect, HashSet<Ability>> entry : game.getContinuousEffects().getApplicableRequirementEffects(creature, game).entrySet()) {
+            for (Map.Entry<RequirementEffect, HashSet<Ability>> entry : getRequirementEffects(creature, game).entrySet()) {
                 RequirementEffect effect = entry.getKey();
                 if (effect.mustAttack(game)) {
                     mustAttack = true;
@@ -353,43 +360,63 @@ public class Combat implements Serializable, Copyable<Combat> {
         for (CombatGroup group : this.getGroups()) {
             if (group.defendingPlayerId.equals(defender.getId())) {
                 if (!shownDefendingPlayer) {
-                    game.informPlayers(new StringBuilder("Attacked player: ").append(defender.getName()).toString());
+                    game.informPlayers("Attacked player: ", defender.getName());
                     shownDefendingPlayer = true;
                 }
-                StringBuilder sb = new StringBuilder();
-                boolean attackerExists = false;
-                for (UUID attackingCreatureId : group.getAttackers()) {
-                    attackerExists = true;
-                    Permanent attackingCreature = game.getPermanent(attackingCreatureId);
+                game.informPlayers(new BlockerInfo(group, game));
+            }
+        }
+    }
+
+    /**
+     * The attackers of a combat group and their blockers, the text is only
+     * created if the game log is written
+     */
+    private static class BlockerInfo {
+
+        private final CombatGroup group;
+        private final Game game;
+
+        BlockerInfo(CombatGroup group, Game game) {
+            this.group = group;
+            this.game = game;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            boolean attackerExists = false;
+            for (UUID attackingCreatureId : group.getAttackers()) {
+                attackerExists = true;
+                Permanent attackingCreature = game.getPermanent(attackingCreatureId);
+                if (attackingCreature != null) {
+                    sb.append("Attacker: ");
+                    sb.append(attackingCreature.getLogName()).append(" (");
+                    sb.append(attackingCreature.getPower().getValue()).append("/").append(attackingCreature.getToughness().getValue()).append(") ");
+                } else {
+                    // creature left battlefield
+                    attackingCreature = (Permanent) game.getLastKnownInformation(attackingCreatureId, Zone.BATTLEFIELD);
                     if (attackingCreature != null) {
-                        sb.append("Attacker: ");
-                        sb.append(attackingCreature.getLogName()).append(" (");
-                        sb.append(attackingCreature.getPower().getValue()).append("/").append(attackingCreature.getToughness().getValue()).append(") ");
-                    } else {
-                        // creature left battlefield
-                        attackingCreature = (Permanent) game.getLastKnownInformation(attackingCreatureId, Zone.BATTLEFIELD);
-                        if (attackingCreature != null) {
-                            sb.append(attackingCreature.getLogName()).append(" [left battlefield)] ");
-                        }
+                        sb.append(attackingCreature.getLogName()).append(" [left battlefield)] ");
                     }
                 }
-                if (attackerExists) {
-                    if (group.getBlockers().size() > 0) {
-                        sb.append("blocked by ");
-                        for (UUID blockingCreatureId : group.getBlockerOrder()) {
-                            Permanent blockingCreature = game.getPermanent(blockingCreatureId);
-                            if (blockingCreature != null) {
-                                sb.append(blockingCreature.getLogName()).append(" (");
-                                sb.append(blockingCreature.getPower().getValue()).append("/").append(blockingCreature.getToughness().getValue()).append(") ");
-                            }
+            }
+            if (attackerExists) {
+                if (group.getBlockers().size() > 0) {
+                    sb.append("blocked by ");
+                    for (UUID blockingCreatureId : group.getBlockerOrder()) {
+                        Permanent blockingCreature = game.getPermanent(blockingCreatureId);
+                        if (blockingCreature != null) {
+                            sb.append(blockingCreature.getLogName()).append(" (");
+                            sb.append(blockingCreature.getPower().getValue()).append("/").append(blockingCreature.getToughness().getValue()).append(") ");
                         }
-
-                    } else {
-                        sb.append("unblocked");
                     }
+
+                } else {
+                    sb.append("unblocked");
                 }
-                game.informPlayers(sb.toString());
             }
+            return sb.toString();
         }
     }
 
@@ -437,7 +464,7 @@ public class Combat implements Serializable, Copyable<Combat> {
             return;
         }            
         for (Permanent possibleBlocker : game.getBattlefield().getActivePermanents(filterBlockers, attackingPlayer.getId(), game)) {
-            for (Map.Entry<RequirementEffect, HashSet<Ability>> requirementEntry : game.getContinuousEffects().getApplicableRequirementEffects(possibleBlocker, game).entrySet()) {
+            for (Map.Entry<RequirementEffect, HashSet<Ability>> requirementEntry : getRequirementEffects(possibleBlocker, game).entrySet()) {
                 if (requirementEntry.getKey().mustBlock(game)) {
                     for (Ability ability : requirementEntry.getValue()) {
                         UUID attackingCreatureId = requirementEntry.getKey().mustBlockAttacker(ability, game);
@@ -496,48 +523,26 @@ public class Combat implements Serializable, Copyable<Combat> {
             // creature is controlled by an opponent of the attacker
             if (opponents.contains(creature.getControllerId())) {
 
-                // Creature is already blocking but not forced to do so
-                if (creature.getBlocking() > 0) {
-                    // get all requirement effects that apply to the creature (e.g. is able to block attacker)
-                    for (Map.Entry<RequirementEffect, HashSet<Ability>> entry : game.getContinuousEffects().getApplicableRequirementEffects(creature, game).entrySet()) {
-                        RequirementEffect effect = entry.getKey();
-                        // get possible mustBeBlockedByAtLeastOne blocker
-                        for (Ability ability : entry.getValue()) {
-                            UUID toBeBlockedCreature = effect.mustBlockAttackerIfElseUnblocked(ability, game);
-                            if (toBeBlockedCreature != null) {
-                                Set<UUID> potentialBlockers;
-                                if (mustBeBlockedByAtLeastOne.containsKey(toBeBlockedCreature)) {
-                                    potentialBlockers = mustBeBlockedByAtLeastOne.get(toBeBlockedCreature);
-                                } else {
-                                    potentialBlockers = new HashSet<>();
-                                    mustBeBlockedByAtLeastOne.put(toBeBlockedCreature, potentialBlockers);
-                                }
-                                potentialBlockers.add(creature.getId());
+                // get all requirement effects that apply to the creature (e.g. is able to block attacker)
+                for (Map.Entry<RequirementEffect, HashSet<Ability>> entry : getRequirementEffects(creature, game).entrySet()) {
+                    RequirementEffect effect = entry.getKey();
+                    // get possible mustBeBlockedByAtLeastOne blocker
+                    for (Ability ability : entry.getValue()) {
+                        UUID toBeBlockedCreature = effect.mustBlockAttackerIfElseUnblocked(ability, game);
+                        if (toBeBlockedCreature != null) {
+                            Set<UUID> potentialBlockers;
+                            if (mustBeBlockedByAtLeastOne.containsKey(toBeBlockedCreature)) {
+                                potentialBlockers = mustBeBlockedByAtLeastOne.get(toBeBlockedCreature);
+                            } else {
+                                potentialBlockers = new HashSet<>();
+                                mustBeBlockedByAtLeastOne.put(toBeBlockedCreature, potentialBlockers);
                             }
+                            potentialBlockers.add(creature.getId());
                         }
                     }
-                }
-
-                // Creature is not blocking yet
-                if (creature.getBlocking() == 0) {
-                    // get all requirement effects that apply to the creature
-                    for (Map.Entry<RequirementEffect, HashSet<Ability>> entry : game.getContinuousEffects().getApplicableRequirementEffects(creature, game).entrySet()) {
-                        RequirementEffect effect = entry.getKey();
-                        // get possible mustBeBlockedByAtLeastOne blocker
-                        for (Ability ability : entry.getValue()) {
-                            UUID toBeBlockedCreature = effect.mustBlockAttackerIfElseUnblocked(ability, game);
-                            if (toBeBlockedCreature != null) {
-                                Set<UUID> potentialBlockers;
-                                if (mustBeBlockedByAtLeastOne.containsKey(toBeBlockedCreature)) {
-                                    potentialBlockers = mustBeBlockedByAtLeastOne.get(toBeBlockedCreature);
-                                } else {
-                                    potentialBlockers = new HashSet<>();
-                                    mustBeBlockedByAtLeastOne.put(toBeBlockedCreature, potentialBlockers);
-                                }
-                                potentialBlockers.add(creature.getId());
-                            }
-                        }
 
+                    // Creature is not blocking yet
+                    if (creature.getBlocking() == 0) {
                         // check the mustBlockAny requirement ----------------------------------------
                         if (effect.mustBlockAny(game)) {
                             // check that it can block at least one of the attackers
@@ -711,7 +716,7 @@ public class Combat implements Serializable, Copyable<Combat> {
         for (UUID attackingCreatureId : this.getAttackers()) {
             Permanent attackingCreature = game.getPermanent(attackingCreatureId);
             if (attackingCreature != null) {
-                for (Map.Entry<RestrictionEffect, HashSet<Ability>> entry : game.getContinuousEffects().getApplicableRestrictionEffects(attackingCreature, game).entrySet()) {
+                for (Map.Entry<RestrictionEffect, HashSet<Ability>> entry : getRestrictionEffects(attackingCreature, game).entrySet()) {
                     RestrictionEffect effect = entry.getKey();
                     for (Ability ability : entry.getValue()) {
                         if (!effect.canBeBlockedCheckAfter(attackingCreature, ability, game)) {
@@ -737,6 +742,64 @@ public class Combat implements Serializable, Copyable<Combat> {
         return true;
     }
 
+    /**
+     * The requirement effects that apply to the creature. The effects are
+     * collected once for each creature and version of the game state, so the
+     * checks of the declare attackers and blockers steps (and the AI trying
+     * different blocks) don't search all requirement effects again.
+     *
+     * @param creature
+     * @param game
+     * @return
+     */
+    public Map<RequirementEffect, HashSet<Ability>> getRequirementEffects(Permanent creature, Game game) {
+        checkEffectsVersion(game);
+        Map<RequirementEffect, HashSet<Ability>> effects = requirementEffects.get(creature.getId());
+        if (effects == null) {
+            effects = game.getContinuousEffects().getApplicableRequirementEffects(creature, game);
+            requirementEffects.put(creature.getId(), effects);
+        }
+        return effects;
+    }
+
+    /**
+     * The restriction effects that apply to the creature, collected like the
+     * requirement effects.
+     *
+     * @param creature
+     * @param game
+     * @return
+     */
+    public Map<RestrictionEffect, HashSet<Ability>> getRestrictionEffects(Permanent creature, Game game) {
+        checkEffectsVersion(game);
+        Map<RestrictionEffect, HashSet<Ability>> effects = restrictionEffects.get(creature.getId());
+        if (effects == null) {
+            effects = game.getContinuousEffects().getApplicableRestrictionEffects(creature, game);
+            restrictionEffects.put(creature.getId(), effects);
+        }
+        return effects;
+    }
+
+    /**
+     * The attacking and blocking creatures are changed, some effects only
+     * apply to attacking or blocking creatures. Also called by the combat
+     * groups, so a changed block doesn't depend on the version of the game
+     * state being raised.
+     */
+    void clearEffects() {
+        requirementEffects = null;
+        restrictionEffects = null;
+    }
+
+    private void checkEffectsVersion(Game game) {
+        long version = game.getState().getVersion();
+        if (requirementEffects == null || effectsVersion != version) {
+            requirementEffects = new HashMap<>();
+            restrictionEffects = new HashMap<>();
+            effectsVersion = version;
+        }
+    }
+
     public void setDefenders(Game game) {
         Set<UUID> opponents = game.getOpponents(attackerId);
         PlayerList players;
@@ -793,6 +856,7 @@ public class Combat implements Serializable, Copyable<Combat> {
     }
 
     public boolean declareAttacker(UUID attackerId, UUID defenderId, Game game) {
+        clearEffects();
         if (!defenders.contains(defenderId)) {
             return false;
         }
@@ -847,6 +911,7 @@ public class Combat implements Serializable, Copyable<Combat> {
 
     // add blocking group for creatures that block more than one creature
     public void addBlockingGroup(UUID blockerId, UUID attackerId, UUID playerId, Game game) {
+        clearEffects();
         Permanent blocker = game.getPermanent(blockerId);
         if (blockerId != null && blocker != null && blocker.getBlocking() > 1) {
             if (!blockingGroups.containsKey(blockerId)) {
@@ -870,6 +935,7 @@ public class Combat implements Serializable, Copyable<Combat> {
     }
 
     public boolean removeFromCombat(UUID creatureId, Game game) {
+        clearEffects();
         boolean result = false;
         Permanent creature = game.getPermanent(creatureId);
         if (creature != null) {
@@ -883,6 +949,7 @@ public class Combat implements Serializable, Copyable<Combat> {
     }
 
     public void endCombat(Game game) {
+        clearEffects();
         Permanent creature;
         for (CombatGroup group : groups) {
             for (UUID attacker : group.attackers) {
@@ -1017,6 +1084,7 @@ public class Combat implements Serializable, Copyable<Combat> {
     }
 
     public void removeAttacker(UUID attackerId, Game game) {
+        clearEffects();
         for (CombatGroup group : groups) {
             if (group.attackers.contains(attackerId)) {
                 group.attackers.remove(attackerId);
@@ -1039,6 +1107,7 @@ public class Combat implements Serializable, Copyable<Combat> {
 
     
     public void removeBlockerGromGroup(UUID blockerId, CombatGroup groupToUnblock, Game game) {
+        clearEffects();
         Permanent creature = game.getPermanent(blockerId);
         if (creature != null) {        
             for (CombatGroup group : groups) {
@@ -1059,6 +1128,7 @@ public class Combat implements Serializable, Copyable<Combat> {
     }
     
     public void removeBlocker(UUID blockerId, Game game) {
+        clearEffects();
         for (CombatGroup group : groups) {
             if (group.blockers.contains(blockerId)) {
                 group.blockers.remove(blockerId);
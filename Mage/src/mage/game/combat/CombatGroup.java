@@ -145,6 +145,7 @@ public class CombatGroup implements Serializable, Copyable<CombatGroup> {
                     Player player = game.getPlayer(attacker.getControllerId());
                     if (player.chooseUse(Outcome.Damage, "Do you wish to assign damage for " + attacker.getLogName() + " as though it weren't blocked?", game)) {
                         blocked = false;
+                        game.getCombat().clearEffects();
                         unblockedDamage(first, game);
                     }
                 }
@@ -431,6 +432,7 @@ public class CombatGroup implements Serializable, Copyable<CombatGroup> {
             blockerOrder.add(blockerId);
             this.blocked = true;
             this.players.put(blockerId, playerId);
+            game.getCombat().clearEffects();
         }
     }
 
@@ -587,6 +589,9 @@ public class CombatGroup implements Serializable, Copyable<CombatGroup> {
             }
 
         }
+        if (!blockWasLegal) {
+            game.getCombat().clearEffects();
+        }
         return blockWasLegal;
     }
     /**
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import mage.cards.Card;
+import mage.cards.CardPrototypes;
 import mage.cards.ExpansionSet;
 import mage.game.draft.DraftOptions.TimingOption;
 import mage.game.events.Listener;
@@ -228,6 +229,10 @@ public abstract class DraftImpl implements Draft {
 
     protected void openBooster() {
         if (boosterNum < numberBoosters) {
+            if (draftCube == null) {
+                // the cards of the boosters are copied from the prototypes of their classes
+                CardPrototypes.warmUp(sets.get(boosterNum).getCode());
+            }
             for (DraftPlayer player: players.values()) {
                 if (draftCube != null) {
                     player.setBooster(draftCube.createBooster());
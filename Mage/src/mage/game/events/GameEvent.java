@@ -28,15 +28,17 @@
 
 package mage.game.events;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
 import mage.constants.Zone;
 
 /**
  *
  * @author BetaSteward_at_googlemail.com
  */
-public class GameEvent {
+public class GameEvent implements Serializable {
 
     protected EventType type;
     protected UUID targetId;
@@ -46,7 +48,12 @@ public class GameEvent {
     protected boolean flag;
     protected String data;
     protected Zone zone;
-    protected ArrayList<UUID> appliedEffects = new ArrayList<>();
+    // created with the first applied replacement effect, most events never get one
+    protected ArrayList<UUID> appliedEffects;
+
+    private static boolean countAllocations = false;
+    private static final AtomicLongArray eventAllocations = new AtomicLongArray(EventType.values().length);
+    private static final AtomicLongArray appliedEffectsAllocations = new AtomicLongArray(EventType.values().length);
 
     public enum EventType {
 
@@ -149,6 +156,24 @@ public class GameEvent {
         this.amount = amount;
         this.playerId = playerId;
         this.flag = flag;
+        if (countAllocations) {
+            eventAllocations.incrementAndGet(type.ordinal());
+        }
+    }
+
+    /**
+     * Sets all values of the event again, used by {@link ReusableGameEvent}
+     */
+    void reset(EventType type, UUID targetId, UUID sourceId, UUID playerId, int amount, boolean flag) {
+        this.type = type;
+        this.targetId = targetId;
+        this.sourceId = sourceId;
+        this.amount = amount;
+        this.playerId = playerId;
+        this.flag = flag;
+        this.data = null;
+        this.zone = null;
+        this.appliedEffects = null;
     }
 
     public static GameEvent getEvent(EventType type, UUID targetId, UUID sourceId, UUID playerId, int amount) {
@@ -233,13 +258,52 @@ public class GameEvent {
      * @return
      */
     public ArrayList<UUID> getAppliedEffects() {
+        if (appliedEffects == null) {
+            appliedEffects = new ArrayList<>();
+            if (countAllocations) {
+                appliedEffectsAllocations.incrementAndGet(type.ordinal());
+            }
+        }
         return appliedEffects;
     }
 
     public void setAppliedEffects(ArrayList<UUID> appliedEffects) {
-        if (appliedEffects == null) {
-            appliedEffects = new ArrayList<UUID>();
-        }
         this.appliedEffects = appliedEffects;
     }
+
+    /**
+     * Checks if the effect was already applied to the event without creating
+     * the list of applied effects
+     *
+     * @param effectId
+     * @return
+     */
+    public boolean isEffectApplied(UUID effectId) {
+        return appliedEffects != null && appliedEffects.contains(effectId);
+    }
+
+    /**
+     * Counts the created events and lists of applied effects per event type
+     * (disabled by default)
+     *
+     * @param count
+     */
+    public static void setCountAllocations(boolean count) {
+        countAllocations = count;
+    }
+
+    public static long getEventAllocations(EventType type) {
+        return eventAllocations.get(type.ordinal());
+    }
+
+    public static long getAppliedEffectsAllocations(EventType type) {
+        return appliedEffectsAllocations.get(type.ordinal());
+    }
+
+    public static void resetAllocations() {
+        for (int i = 0; i < eventAllocations.length(); i++) {
+            eventAllocations.set(i, 0);
+            appliedEffectsAllocations.set(i, 0);
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.game.events;
+
+import java.util.UUID;
+import mage.game.Game;
+import mage.game.events.GameEvent.EventType;
+
+/**
+ * One event object that is reused for events that are fired very often and
+ * are not kept by anybody after they were handled (e.g. step and mana events).
+ * If the event is still handled while the next one is requested (an event
+ * fired during the handling of the previous one), a new event is created.
+ *
+ * Each game object has to use its own instance, it's not thread safe.
+ *
+ * @author agent
+ */
+public class ReusableGameEvent {
+
+    private GameEvent event;
+    private boolean inUse;
+
+    public GameEvent get(EventType type, UUID targetId, UUID sourceId, UUID playerId) {
+        return get(type, targetId, sourceId, playerId, 0, false);
+    }
+
+    public GameEvent get(EventType type, UUID targetId, UUID sourceId, UUID playerId, int amount, boolean flag) {
+        if (inUse) {
+            return new GameEvent(type, targetId, sourceId, playerId, amount, flag);
+        }
+        if (event == null) {
+            event = new GameEvent(type, targetId, sourceId, playerId, amount, flag);
+        } else {
+            event.reset(type, targetId, sourceId, playerId, amount, flag);
+        }
+        inUse = true;
+        return event;
+    }
+
+    /**
+     * Fires the event and releases it afterwards
+     *
+     * @param game
+     * @param event event returned by {@link #get}
+     */
+    public void fire(Game game, GameEvent event) {
+        try {
+            game.fireEvent(event);
+        } finally {
+            release(event);
+        }
+    }
+
+    /**
+     * Checks the replacement effects for the event and releases it afterwards
+     *
+     * @param game
+     * @param event event returned by {@link #get}
+     * @return true if the event was replaced
+     */
+    public boolean replace(Game game, GameEvent event) {
+        try {
+            return game.replaceEvent(event);
+        } finally {
+            release(event);
+        }
+    }
+
+    private void release(GameEvent event) {
+        if (event == this.event) {
+            inUse = false;
+        }
+    }
+}
@@ -46,26 +46,130 @@ public class Battlefield implements Serializable {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
 
+    // secondary indexes of the permanents (in the order of field), built on first use
+    private transient Map<UUID, List<Permanent>> controllerIndex;
+    private transient List<Permanent> phasedOutIndex;
+    // controllers can change while the continuous effects are applied
+    private boolean indexesEnabled = true;
+
     public Battlefield () {}
 
     public Battlefield(final Battlefield battlefield) {
         for (Entry<UUID, Permanent> entry: battlefield.field.entrySet()) {
             field.put(entry.getKey(), entry.getValue().copy());
         }
+        this.indexesEnabled = battlefield.indexesEnabled;
     }
 
     public Battlefield copy() {
         return new Battlefield(this);
     }
 
+    /**
+     * Resets the permanents to their values without continuous effects.
+     * The controller index is not used until
+     * {@link #effectsApplied()} is called.
+     *
+     * @param game
+     */
     public void reset(Game game) {
+        indexesEnabled = false;
         for (Permanent perm: field.values()) {
             perm.reset(game);
         }
     }
 
+    /**
+     * Has to be called after the continuous effects were applied, so the
+     * indexes are rebuilt with the current controllers.
+     */
+    public void effectsApplied() {
+        invalidateIndexes();
+        indexesEnabled = true;
+    }
+
+    /**
+     * Has to be called if the controller of a permanent changed outside of
+     * the application of the continuous effects.
+     */
+    public void controllerChanged() {
+        controllerIndex = null;
+    }
+
+    /**
+     * Has to be called if a permanent phased in or out.
+     */
+    public void phasingChanged() {
+        phasedOutIndex = null;
+    }
+
     public void clear() {
         field.clear();
+        invalidateIndexes();
+    }
+
+    private void invalidateIndexes() {
+        controllerIndex = null;
+        phasedOutIndex = null;
+    }
+
+    /**
+     * Returns the permanents that can be controlled by controllerId. The
+     * caller still has to check the controller, the index can't be used while
+     * the continuous effects are applied.
+     */
+    private Collection<Permanent> getCandidates(UUID controllerId) {
+        if (!indexesEnabled) {
+            return field.values();
+        }
+        if (controllerIndex == null) {
+            controllerIndex = new HashMap<>();
+            for (Permanent perm: field.values()) {
+                addToIndex(controllerIndex, perm.getControllerId(), perm);
+            }
+        }
+        List<Permanent> controlled = controllerIndex.get(controllerId);
+        return controlled != null ? controlled : Collections.<Permanent>emptyList();
+    }
+
+    /**
+     * Returns the permanents that can be controlled by one of the players in
+     * range (in battlefield order). The caller still has to check the
+     * controller.
+     */
+    private Collection<Permanent> getCandidates(Set<UUID> range) {
+        if (!indexesEnabled || range.size() != 1) {
+            // the permanents of several controllers have to keep the battlefield order
+            return field.values();
+        }
+        return getCandidates(range.iterator().next());
+    }
+
+    private List<Permanent> getPhasedOut() {
+        if (phasedOutIndex == null) {
+            phasedOutIndex = new ArrayList<>();
+            for (Permanent perm: field.values()) {
+                if (!perm.isPhasedIn()) {
+                    phasedOutIndex.add(perm);
+                }
+            }
+        }
+        return phasedOutIndex;
+    }
+
+    private static <K> void addToIndex(Map<K, List<Permanent>> index, K key, Permanent permanent) {
+        List<Permanent> permanents = index.get(key);
+        if (permanents == null) {
+            permanents = new ArrayList<>();
+            index.put(key, permanents);
+        }
+        permanents.add(permanent);
+    }
+
+    private static <K> void removeFromIndex(Map<K, List<Permanent>> index, Permanent permanent) {
+        for (List<Permanent> permanents: index.values()) {
+            permanents.remove(permanent);
+        }
     }
 
     /**
@@ -81,7 +185,7 @@ public class Battlefield implements Serializable {
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
         int count = 0;
-        for (Permanent permanent: field.values()) {
+        for (Permanent permanent: getCandidates(controllerId)) {
             if (permanent.getControllerId().equals(controllerId) && filter.match(permanent, game)) {
                 count++;
             }
@@ -111,7 +215,7 @@ public class Battlefield implements Serializable {
         }
         else {
             Set<UUID> range = game.getPlayer(sourcePlayerId).getInRange();
-            for (Permanent permanent: field.values()) {
+            for (Permanent permanent: getCandidates(range)) {
                 if (range.contains(permanent.getControllerId()) && filter.match(permanent, sourceId, sourcePlayerId, game)) {
                     count++;
                 }
@@ -156,7 +260,7 @@ public class Battlefield implements Serializable {
      */
     public boolean contains(FilterPermanent filter, UUID controllerId, int num, Game game) {
         int count = 0;
-        for (Permanent permanent: field.values()) {
+        for (Permanent permanent: getCandidates(controllerId)) {
             if (permanent.getControllerId().equals(controllerId) && filter.match(permanent, game)) {
                 count++;
                 if (num == count) {
@@ -192,7 +296,7 @@ public class Battlefield implements Serializable {
         }
         else {
             Set<UUID> range = game.getPlayer(sourcePlayerId).getInRange();
-            for (Permanent permanent: field.values()) {
+            for (Permanent permanent: getCandidates(range)) {
                 if (range.contains(permanent.getControllerId()) && filter.match(permanent, null, sourcePlayerId, game)) {
                     count++;
                     if (num == count) {
@@ -205,7 +309,17 @@ public class Battlefield implements Serializable {
     }
 
     public void addPermanent(Permanent permanent) {
-        field.put(permanent.getId(), permanent);
+        Permanent replaced = field.put(permanent.getId(), permanent);
+        if (replaced != null) {
+            invalidateIndexes();
+            return;
+        }
+        if (controllerIndex != null) {
+            addToIndex(controllerIndex, permanent.getControllerId(), permanent);
+        }
+        if (phasedOutIndex != null && !permanent.isPhasedIn()) {
+            phasedOutIndex.add(permanent);
+        }
     }
 
     public Permanent getPermanent(UUID key) {
@@ -213,7 +327,15 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        Permanent permanent = field.remove(key);
+        if (permanent != null) {
+            if (controllerIndex != null) {
+                removeFromIndex(controllerIndex, permanent);
+            }
+            if (phasedOutIndex != null) {
+                phasedOutIndex.remove(permanent);
+            }
+        }
     }
 
     public boolean containsPermanent(UUID key) {
@@ -241,6 +363,9 @@ public class Battlefield implements Serializable {
     }
 
     public List<Permanent> getAllActivePermanents() {
+        if (getPhasedOut().isEmpty()) {
+            return new ArrayList<>(field.values());
+        }
         List<Permanent> active = new ArrayList<>();
         for (Permanent perm: field.values()) {
             if (perm.isPhasedIn()) {
@@ -260,7 +385,7 @@ public class Battlefield implements Serializable {
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
         List<Permanent> active = new ArrayList<>();
-        for (Permanent perm: field.values()) {
+        for (Permanent perm: getCandidates(controllerId)) {
             if (perm.isPhasedIn() && perm.getControllerId().equals(controllerId)) {
                 active.add(perm);
             }
@@ -318,7 +443,7 @@ public class Battlefield implements Serializable {
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
         List<Permanent> active = new ArrayList<>();
-        for (Permanent perm: field.values()) {
+        for (Permanent perm: getCandidates(controllerId)) {
             if (perm.isPhasedIn() && perm.getControllerId().equals(controllerId) && filter.match(perm, game)) {
                 active.add(perm);
             }
@@ -362,7 +487,7 @@ public class Battlefield implements Serializable {
         }
         else {
             Set<UUID> range = game.getPlayer(sourcePlayerId).getInRange();
-            for (Permanent perm: field.values()) {
+            for (Permanent perm: getCandidates(range)) {
                 if (perm.isPhasedIn() && range.contains(perm.getControllerId()) && filter.match(perm, sourceId, sourcePlayerId, game)) {
                     active.add(perm);
                 }
@@ -386,7 +511,7 @@ public class Battlefield implements Serializable {
         else {
             List<Permanent> active = new ArrayList<>();
             Set<UUID> range = game.getPlayer(sourcePlayerId).getInRange();
-            for (Permanent perm: field.values()) {
+            for (Permanent perm: getCandidates(range)) {
                 if (perm.isPhasedIn() && range.contains(perm.getControllerId())) {
                     active.add(perm);
                 }
@@ -397,7 +522,7 @@ public class Battlefield implements Serializable {
 
     public List<Permanent> getPhasedIn(UUID controllerId) {
         List<Permanent> phasedIn = new ArrayList<>();
-        for (Permanent perm: field.values()) {
+        for (Permanent perm: getCandidates(controllerId)) {
             if (perm.getAbilities().containsKey(PhasingAbility.getInstance().getId()) && perm.isPhasedIn() && perm.getControllerId().equals(controllerId)) {
                 phasedIn.add(perm);
             }
@@ -407,7 +532,7 @@ public class Battlefield implements Serializable {
 
     public List<Permanent> getPhasedOut(UUID controllerId) {
         List<Permanent> phasedOut = new ArrayList<>();
-        for (Permanent perm: field.values()) {
+        for (Permanent perm: getPhasedOut()) {
             if (!perm.isPhasedIn() && perm.getControllerId().equals(controllerId)) {
                 phasedOut.add(perm);
             }
@@ -421,6 +546,7 @@ public class Battlefield implements Serializable {
                 perm.resetControl();
             }
         }
+        controllerIndex = null;
     }
     
     /**
@@ -106,6 +106,7 @@ public interface Permanent extends Card, Controllable {
     boolean regenerate(UUID sourceId, Game game);
     void entersBattlefield(UUID sourceId, Game game, Zone fromZone, boolean fireEvent);
     String getValue();
+    long getValueHash();
 
     @Deprecated
     @Override
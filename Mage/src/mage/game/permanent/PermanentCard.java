@@ -29,7 +29,9 @@
 package mage.game.permanent;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import mage.abilities.Abilities;
 import mage.abilities.Ability;
 import mage.cards.Card;
 import mage.cards.LevelerCard;
@@ -38,6 +40,7 @@ import mage.game.Game;
 import mage.game.command.Commander;
 import mage.game.events.ZoneChangeEvent;
 import mage.players.Player;
+import mage.watchers.Watcher;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -46,6 +49,11 @@ public class PermanentCard extends PermanentImpl {
 
     protected int maxLevelCounters;
     protected Card card;
+    // the card is shared with copies of the permanent and has to be copied before it's changed
+    private boolean cardShared;
+    // own copies of the abilities and watchers of the shared card, handed to the permanent by reset
+    private Abilities<Ability> cardAbilities;
+    private List<Watcher> cardWatchers;
 
     public PermanentCard(Card card, UUID controllerId) {
         super(card.getId(), card.getOwnerId(), controllerId, card.getName());
@@ -71,24 +79,51 @@ public class PermanentCard extends PermanentImpl {
 
     public PermanentCard(final PermanentCard permanent) {
         super(permanent);
-        this.card = permanent.card.copy();
+        // the card is only copied if the copy or the permanent copied from changes the card
+        permanent.cardShared = true;
+        this.card = permanent.card;
+        this.cardShared = true;
+        if (permanent.cardAbilities != null) {
+            this.cardAbilities = permanent.cardAbilities.copy();
+            this.cardWatchers = copyWatchers(permanent.cardWatchers);
+        }
         this.maxLevelCounters = permanent.maxLevelCounters;
     }
 
     @Override
     public void reset(Game game) {
         // when the permanent is reset, copy all original values from the card
-        // must copy card each reset so that the original values don't get modified
-        copyFromCard(card);
+        if (cardShared) {
+            // the permanent changes the abilities and watchers it gets, so it gets own copies of the ones of the shared card
+            if (cardAbilities == null) {
+                cardAbilities = card.getAbilities().copy();
+                cardWatchers = copyWatchers(card.getWatchers());
+            }
+            copyFromCard(card, cardAbilities, cardWatchers);
+        } else {
+            copyFromCard(card);
+        }
         super.reset(game);
     }
 
+    private static List<Watcher> copyWatchers(List<Watcher> watchers) {
+        List<Watcher> copies = new ArrayList<>(watchers.size());
+        for (Watcher watcher: watchers) {
+            copies.add(watcher.copy());
+        }
+        return copies;
+    }
+
     protected void copyFromCard(Card card) {
+        copyFromCard(card, card.getAbilities(), card.getWatchers());
+    }
+
+    private void copyFromCard(Card card, Abilities<Ability> cardAbilities, List<Watcher> cardWatchers) {
         this.name = card.getName();
         this.abilities.clear();
-        this.abilities.addAll(card.getAbilities());
+        this.abilities.addAll(cardAbilities);
         this.abilities.setControllerId(this.controllerId);
-        this.watchers.addAll(card.getWatchers());
+        this.watchers.addAll(cardWatchers);
         this.cardType.clear();
         this.cardType.addAll(card.getCardType());
         this.color = card.getColor().copy();
@@ -120,6 +155,16 @@ public class PermanentCard extends PermanentImpl {
     }
 
     public Card getCard() {
+        if (cardShared) {
+            card = card.copy();
+            cardShared = false;
+            if (cardAbilities != null) {
+                // the copies of the abilities were given the controller of the permanent, the abilities of the card not
+                card.getAbilities().setControllerId(controllerId);
+                cardAbilities = null;
+                cardWatchers = null;
+            }
+        }
         return card;
     }
     @Override
@@ -143,22 +188,22 @@ public class PermanentCard extends PermanentImpl {
                     this.setControllerId(ownerId); // neccessary for e.g. abilities in graveyard or hand to not have a controller != owner
                     switch (event.getToZone()) {
                         case GRAVEYARD:
-                            owner.putInGraveyard(card, game, !flag);
+                            owner.putInGraveyard(getCard(), game, !flag);
                             break;
                         case HAND:
-                            owner.getHand().add(card);
+                            owner.getHand().add(getCard());
                             break;
                         case EXILED:
-                            game.getExile().getPermanentExile().add(card);
+                            game.getExile().getPermanentExile().add(getCard());
                             break;
                         case COMMAND:
-                            game.addCommander(new Commander(card));
+                            game.addCommander(new Commander(getCard()));
                             break;
                         case LIBRARY:
                             if (flag) {
-                                owner.getLibrary().putOnTop(card, game);
+                                owner.getLibrary().putOnTop(getCard(), game);
                             } else {
-                                owner.getLibrary().putOnBottom(card, game);
+                                owner.getLibrary().putOnBottom(getCard(), game);
                             }
                             break;
                         case BATTLEFIELD:
@@ -188,9 +233,9 @@ public class PermanentCard extends PermanentImpl {
             if (!game.replaceEvent(event)) {
                 game.rememberLKI(objectId, Zone.BATTLEFIELD, this);
                 if (exileId == null) {
-                    game.getExile().getPermanentExile().add(card);
+                    game.getExile().getPermanentExile().add(getCard());
                 } else {
-                    game.getExile().createZone(exileId, name).add(card);
+                    game.getExile().createZone(exileId, name).add(getCard());
                 }
                 game.setZone(objectId, event.getToZone());
                 game.addSimultaneousEvent(event);
@@ -212,7 +257,7 @@ public class PermanentCard extends PermanentImpl {
     @Override
     public boolean turnFaceUp(Game game, UUID playerId) {
         if (super.turnFaceUp(game, playerId)) {
-            card.setFaceDown(false);
+            getCard().setFaceDown(false);
             return true;
         }
         return false;
@@ -221,7 +266,7 @@ public class PermanentCard extends PermanentImpl {
     @Override
     public boolean turnFaceDown(Game game, UUID playerId) {
         if (super.turnFaceDown(game, playerId)) {
-            card.setFaceDown(true);
+            getCard().setFaceDown(true);
             return true;
         }
         return false;
@@ -246,7 +291,7 @@ public class PermanentCard extends PermanentImpl {
     public void setFaceDown(boolean value) {
         super.setFaceDown(value);
         if (card != null) {
-            card.setFaceDown(value);
+            getCard().setFaceDown(value);
         }   
     }
     
@@ -67,6 +67,7 @@ import mage.game.events.EntersTheBattlefieldEvent;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.players.Player;
+import mage.util.ValueHash;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -187,6 +188,32 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return sb.toString();
     }
 
+    /**
+     * Hash value of the same attributes as getValue() uses, without building
+     * the strings. Abilities and counters are added independent of their order.
+     */
+    @Override
+    public long getValueHash() {
+        long hash = ValueHash.hash(0, controllerId);
+        hash = ValueHash.hash(hash, name);
+        hash = ValueHash.hash(hash, tapped);
+        hash = ValueHash.hash(hash, damage);
+        hash = ValueHash.hash(hash, subtype);
+        hash = ValueHash.hash(hash, supertype);
+        hash = ValueHash.hash(hash, power.getValue());
+        hash = ValueHash.hash(hash, toughness.getValue());
+        long abilitiesHash = abilities.size();
+        for (Ability ability: abilities) {
+            abilitiesHash += ValueHash.hash(1, ability.getClass().getName());
+        }
+        hash = ValueHash.hash(hash, abilitiesHash);
+        long countersHash = 0;
+        for (Counter counter : getCounters().values()) {
+            countersHash += ValueHash.hash(ValueHash.hash(2, counter.getName()), counter.getCount());
+        }
+        return ValueHash.hash(hash, countersHash);
+    }
+
     @Override
     @Deprecated
     public void addAbility(Ability ability) {
@@ -392,6 +419,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         if (!phasedIn) {
             if (!replaceEvent(EventType.PHASE_IN, game)) {
                 this.phasedIn = true;
+                game.getBattlefield().phasingChanged();
                 fireEvent(EventType.PHASED_IN, game);
                 return true;
             }
@@ -404,6 +432,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         if (phasedIn) {
             if (!replaceEvent(EventType.PHASE_OUT, game)) {
                 this.phasedIn = false;
+                game.getBattlefield().phasingChanged();
                 fireEvent(EventType.PHASED_OUT, game);
                 return true;
             }
@@ -461,6 +490,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         Player newController = game.getPlayer(controllerId);
         if (newController != null && (!newController.hasLeft() || !newController.hasLost())) {
             this.controllerId = controllerId;
+            game.getBattlefield().controllerChanged();
             return true;
         }
         return false;
@@ -798,11 +828,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         
         if (!game.replaceEvent(GameEvent.getEvent(EventType.DESTROY_PERMANENT, objectId, sourceId, controllerId, noRegen ? 1 : 0))) {
             if (moveToZone(Zone.GRAVEYARD, sourceId, game, false)) {
-                if (this.getCardType().contains(CardType.CREATURE)) {
-                    game.informPlayers(new StringBuilder(this.getLogName()).append(" died").toString());
-                } else {
-                    game.informPlayers(new StringBuilder(this.getLogName()).append(" was destroyed").toString());
-                }
+                game.informPlayers(this.getLogName(), this.getCardType().contains(CardType.CREATURE) ? " died":" was destroyed");
                 game.fireEvent(GameEvent.getEvent(EventType.DESTROYED_PERMANENT, objectId, sourceId, controllerId));
                 return true;
             }
@@ -818,7 +844,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             moveToZone(Zone.GRAVEYARD, sourceId, game, false);
             Player player = game.getPlayer(getControllerId());
             if (player != null) {
-                game.informPlayers(new StringBuilder(player.getName()).append(" sacrificed ").append(this.getLogName()).toString());
+                game.informPlayers(player.getName(), " sacrificed ", this.getLogName());
             }
             game.fireEvent(GameEvent.getEvent(EventType.SACRIFICED_PERMANENT, objectId, sourceId, controllerId));
             return true;
@@ -897,7 +923,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
 
     private boolean canAttackCheckRestrictionEffects(UUID defenderId, Game game) {
         //20101001 - 508.1c
-        for (Map.Entry<RestrictionEffect, HashSet<Ability>> effectEntry: game.getContinuousEffects().getApplicableRestrictionEffects(this, game).entrySet()) {
+        for (Map.Entry<RestrictionEffect, HashSet<Ability>> effectEntry: game.getCombat().getRestrictionEffects(this, game).entrySet()) {
             if (!effectEntry.getKey().canAttack(game)) {
                 return false;
             }
@@ -925,7 +951,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         }
         //20101001 - 509.1b
         // check blocker restrictions
-        for (Map.Entry<RestrictionEffect, HashSet<Ability>> entry: game.getContinuousEffects().getApplicableRestrictionEffects(this, game).entrySet()) {
+        for (Map.Entry<RestrictionEffect, HashSet<Ability>> entry: game.getCombat().getRestrictionEffects(this, game).entrySet()) {
             for (Ability ability : entry.getValue()) {
                 if (!entry.getKey().canBlock(attacker, this, ability, game)) {
                     return false;
@@ -933,7 +959,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             }
         }
         // check also attacker's restriction effects
-        for (Map.Entry<RestrictionEffect, HashSet<Ability>> restrictionEntry: game.getContinuousEffects().getApplicableRestrictionEffects(attacker, game).entrySet()) {
+        for (Map.Entry<RestrictionEffect, HashSet<Ability>> restrictionEntry: game.getCombat().getRestrictionEffects(attacker, game).entrySet()) {
             for (Ability ability : restrictionEntry.getValue()) {
                 if (!restrictionEntry.getKey().canBeBlocked(attacker, this, ability, game)) {
                     return false;
@@ -950,7 +976,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         }
 
         //20101001 - 509.1b
-        for (Map.Entry entry: game.getContinuousEffects().getApplicableRestrictionEffects(this, game).entrySet()) {
+        for (Map.Entry entry: game.getCombat().getRestrictionEffects(this, game).entrySet()) {
             RestrictionEffect effect = (RestrictionEffect)entry.getKey();
             for (Ability ability : (HashSet<Ability>) entry.getValue()) {
                 if (!effect.canBlock(null, this, ability, game)) {
@@ -1012,7 +1038,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
     public boolean removeFromCombat(Game game) {
         if (this.isAttacking() || this.blocking > 0) {
             if (game.getCombat().removeFromCombat(objectId, game)) {
-                game.informPlayers(new StringBuilder(this.getLogName()).append(" removed from combat").toString());
+                game.informPlayers(this.getLogName(), " removed from combat");
             }
         }
         return true;
@@ -212,7 +212,7 @@ public class Spell implements StackObject, Card {
                 return result;
             }
             //20091005 - 608.2b
-            game.informPlayers(getName() + " has been fizzled.");
+            game.informPlayers(getName(), " has been fizzled.");
             counter(null, game);
             return false;
         } else if (this.getCardType().contains(CardType.ENCHANTMENT) && this.getSubtype().contains("Aura")) {
@@ -249,7 +249,7 @@ public class Spell implements StackObject, Card {
                 return result;
             } else {
                 //20091005 - 608.2b
-                game.informPlayers(getName() + " has been fizzled.");
+                game.informPlayers(getName(), " has been fizzled.");
                 counter(null, game);
                 return false;
             }
@@ -85,7 +85,7 @@ public class SpellStack extends ArrayDeque<StackObject> {
                 }
                 this.remove(stackObject);
                 stackObject.counter(sourceId, game); // tries to move to graveyard
-                game.informPlayers(new StringBuilder(stackObject.getName()).append(" is countered by ").append(sourceObject.getLogName()).toString());
+                game.informPlayers(stackObject.getName(), " is countered by ", sourceObject.getLogName());
                 game.fireEvent(GameEvent.getEvent(GameEvent.EventType.COUNTERED, objectId, sourceId, stackObject.getControllerId()));
             } else {
                 game.informPlayers(new StringBuilder(stackObject.getName()).append(" could not be countered by ").append(sourceObject.getLogName()).toString());
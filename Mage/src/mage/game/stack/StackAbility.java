@@ -98,7 +98,8 @@ public class StackAbility implements StackObject, Ability {
         if (ability.getTargets().stillLegal(ability, game)) {
             return ability.resolve(game);
         }
-        game.informPlayers("Ability has been fizzled: " + getRule());
+        // the rule text is only created if the game log is written
+        game.informPlayers("Ability has been fizzled: ", ability);
         counter(null, game);
         return false;
     }
@@ -38,6 +38,7 @@ import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import mage.cards.Card;
+import mage.cards.CardPrototypes;
 import mage.cards.ExpansionSet;
 import mage.cards.decks.Deck;
 import mage.constants.TournamentPlayerState;
@@ -383,6 +384,14 @@ public abstract class TournamentImpl implements Tournament {
     }
 
     protected void openBoosters() {
+        if (options.getLimitedOptions().getDraftCube() == null) {
+            // the cards of the boosters are copied from the prototypes of their classes
+            List<String> setCodes = new ArrayList<>();
+            for (ExpansionSet set: sets) {
+                setCodes.add(set.getCode());
+            }
+            CardPrototypes.warmUp(setCodes.toArray(new String[setCodes.size()]));
+        }
         for (TournamentPlayer player: this.players.values()) {
             player.setDeck(new Deck());
             if (options.getLimitedOptions().getDraftCube() != null) {
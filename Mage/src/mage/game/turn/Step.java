@@ -34,6 +34,7 @@ import mage.constants.PhaseStep;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
+import mage.game.events.ReusableGameEvent;
 
 /**
  *
@@ -47,6 +48,8 @@ public abstract class Step implements Serializable {
     protected EventType preStepEvent;
     protected EventType postStepEvent;
     protected StepPart stepPart;
+    // the step events are not kept, so one event object is used for all of them
+    private transient ReusableGameEvent stepEvents;
 
     public enum StepPart {
         PRE, PRIORITY, POST;
@@ -74,7 +77,8 @@ public abstract class Step implements Serializable {
 
     public void beginStep(Game game, UUID activePlayerId) {
         stepPart = StepPart.PRE;
-        game.fireEvent(new GameEvent(preStepEvent, null, null, activePlayerId));
+        ReusableGameEvent events = getStepEvents();
+        events.fire(game, events.get(preStepEvent, null, null, activePlayerId));
     }
 
     public void resumeBeginStep(Game game, UUID activePlayerId) {
@@ -90,11 +94,20 @@ public abstract class Step implements Serializable {
 
     public void endStep(Game game, UUID activePlayerId) {
         stepPart = StepPart.POST;
-        game.fireEvent(new GameEvent(postStepEvent, null, null, activePlayerId));
+        ReusableGameEvent events = getStepEvents();
+        events.fire(game, events.get(postStepEvent, null, null, activePlayerId));
     }
 
     public boolean skipStep(Game game, UUID activePlayerId) {
-        return game.replaceEvent(new GameEvent(stepEvent, null, null, activePlayerId));
+        ReusableGameEvent events = getStepEvents();
+        return events.replace(game, events.get(stepEvent, null, null, activePlayerId));
+    }
+
+    private ReusableGameEvent getStepEvents() {
+        if (stepEvents == null) {
+            stepEvents = new ReusableGameEvent();
+        }
+        return stepEvents;
     }
 
     public boolean getHasPriority() {
@@ -43,6 +43,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.events.ManaEvent;
+import mage.game.events.ReusableGameEvent;
 
 /**
  *
@@ -54,6 +55,7 @@ public class ManaPool implements Serializable {
 
     private boolean autoPayment; // auto payment from mana pool: true - mode is active
     private ManaType unlockedManaType; // type of mana that was selected to pay manually
+    private transient ReusableGameEvent manaEvents; // for the mana added and payed events
 
     public ManaPool() {
         autoPayment = true;
@@ -102,7 +104,8 @@ public class ManaPool implements Serializable {
             if (filter == null || filter.match(game.getObject(mana.getSourceId()), game)) {
                 boolean spendAnyMana = spendAnyMana(ability, game);
                 if (mana.get(manaType) > 0 || (spendAnyMana && mana.count() > 0)) {
-                    game.fireEvent(new GameEvent(GameEvent.EventType.MANA_PAYED, ability.getId(), mana.getSourceId(), ability.getControllerId(), 0, mana.getFlag()));
+                    ReusableGameEvent events = getManaEvents();
+                    events.fire(game, events.get(GameEvent.EventType.MANA_PAYED, ability.getId(), mana.getSourceId(), ability.getControllerId(), 0, mana.getFlag()));
                     if (spendAnyMana) {
                         mana.removeAny();
                     } else {
@@ -310,9 +313,10 @@ public class ManaPool implements Serializable {
             } else {
                 this.manaItems.add(new ManaPoolItem(mana.getRed(), mana.getGreen(), mana.getBlue(), mana.getWhite(), mana.getBlack(), mana.getColorless(), source.getSourceId(), mana.getFlag()));
             }
-            GameEvent event = GameEvent.getEvent(GameEvent.EventType.MANA_ADDED, source.getId(), source.getSourceId(), source.getControllerId());
+            ReusableGameEvent events = getManaEvents();
+            GameEvent event = events.get(GameEvent.EventType.MANA_ADDED, source.getId(), source.getSourceId(), source.getControllerId());
             event.setData(mana.toString());
-            game.fireEvent(event);
+            events.fire(game, event);
         }
     }
 
@@ -338,11 +342,19 @@ public class ManaPool implements Serializable {
         return new ManaPool(this);
     }
 
+    private ReusableGameEvent getManaEvents() {
+        if (manaEvents == null) {
+            manaEvents = new ReusableGameEvent();
+        }
+        return manaEvents;
+    }
+
     private void removeConditional(ManaType manaType, Ability ability, Game game) {
         for (ConditionalMana mana : getConditionalMana()) {
             if (mana.get(manaType) > 0 && mana.apply(ability, game, mana.getManaProducerId())) {
                 mana.set(manaType, mana.get(manaType) - 1);
-                game.fireEvent(new GameEvent(GameEvent.EventType.MANA_PAYED, ability.getId(), mana.getManaProducerId(), ability.getControllerId(), 0, mana.getFlag()));
+                ReusableGameEvent events = getManaEvents();
+                events.fire(game, events.get(GameEvent.EventType.MANA_PAYED, ability.getId(), mana.getManaProducerId(), ability.getControllerId(), 0, mana.getFlag()));
                 break;
             }
         }
@@ -41,8 +41,8 @@ import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.MageObject;
-import mage.Mana;
 import mage.abilities.Abilities;
 import mage.abilities.AbilitiesImpl;
 import mage.abilities.Ability;
@@ -97,6 +97,7 @@ import mage.filter.predicate.Predicates;
 import mage.filter.predicate.permanent.PermanentIdPredicate;
 import mage.game.ExileZone;
 import mage.game.Game;
+import mage.game.GameState;
 import mage.game.Table;
 import mage.game.combat.CombatGroup;
 import mage.game.command.Commander;
@@ -200,6 +201,9 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     protected UserData userData;
 
+    // playable abilities calculated for a version of the game state
+    private transient PlayableCache playableCache;
+
     /**
      * During some steps we can't play anything
      */
@@ -284,6 +288,10 @@ public abstract class PlayerImpl implements Player, Serializable {
         this.reachedNextTurnAfterLeaving = player.reachedNextTurnAfterLeaving;
 
         this.castSourceIdWithoutMana = player.castSourceIdWithoutMana;
+        if (player.playableCache != null) {
+            // the playable lists belong to the objects of the copied state
+            this.playableCache = new PlayableCache(null, player.playableCache);
+        }
     }
 
     @Override
@@ -587,7 +595,7 @@ public abstract class PlayerImpl implements Player, Serializable {
     @Override
     public void discardToMax(Game game) {
         if (hand.size() > this.maxHandSize) {
-            game.informPlayers(new StringBuilder(getName()).append(" discards down to ").append(this.maxHandSize).append(this.maxHandSize == 1?" hand card":" hand cards").toString());
+            game.informPlayers(getName(), " discards down to ", this.maxHandSize, this.maxHandSize == 1 ? " hand card" : " hand cards");
             while (isInGame() && hand.size() > this.maxHandSize) {
                 TargetDiscard target = new TargetDiscard(playerId);
                 target.setTargetName(new StringBuilder(" card to discard (").append(hand.size() - this.maxHandSize).append(" in total)").toString());
@@ -664,7 +672,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         */
         if (card != null) {
             // write info to game log first so game log infos from triggered or replacement effects follow in the game log
-            game.informPlayers(new StringBuilder(name).append(" discards ").append(card.getName()).toString());
+            game.informPlayers(name, " discards ", card.getName());
             /* If a card is discarded while Rest in Peace is on the battlefield, abilities that function
              * when a card is discarded (such as madness) still work, even though that card never reaches
              * a graveyard. In addition, spells or abilities that check the characteristics of a discarded
@@ -811,7 +819,7 @@ public abstract class PlayerImpl implements Player, Serializable {
                     GameEvent event = GameEvent.getEvent(GameEvent.EventType.SPELL_CAST, spell.getSpellAbility().getId(), spell.getSpellAbility().getSourceId(), playerId);
                     event.setZone(fromZone);
                     game.fireEvent(event);
-                    game.informPlayers(new StringBuilder(name).append(spell.getActivatedMessage(game)).toString());
+                    game.informPlayers(name, spell.getActivatedMessage(game));
                     game.removeBookmark(bookmark);
                     resetStoredBookmark(game);
                     return true;
@@ -901,7 +909,7 @@ public abstract class PlayerImpl implements Player, Serializable {
             int bookmark = game.bookmarkState();
             if (action.activate(game, false)) {
                 game.fireEvent(GameEvent.getEvent(GameEvent.EventType.ACTIVATED_ABILITY, action.getSourceId(), action.getId(), playerId));
-                game.informPlayers(new StringBuilder(name).append(action.getGameLogMessage(game)).toString());
+                game.informPlayers(name, action.getGameLogMessage(game));
                 if (action.resolve(game)) {
                     game.removeBookmark(bookmark);
                     resetStoredBookmark(game);
@@ -1110,7 +1118,7 @@ public abstract class PlayerImpl implements Player, Serializable {
     public void shuffleLibrary(Game game) {
         if (!game.replaceEvent(GameEvent.getEvent(GameEvent.EventType.SHUFFLE_LIBRARY, playerId, playerId))) {
             this.library.shuffle();
-            game.informPlayers(new StringBuilder(this.name).append(" shuffles his or her library.").toString());
+            game.informPlayers(this.name, " shuffles his or her library.");
             game.fireEvent(GameEvent.getEvent(GameEvent.EventType.LIBRARY_SHUFFLED, playerId, playerId));
         }
     }
@@ -1118,16 +1126,16 @@ public abstract class PlayerImpl implements Player, Serializable {
     @Override
     public void revealCards(String name, Cards cards, Game game) {
         game.getState().getRevealed().add(name, cards);
-        StringBuilder sb = new StringBuilder(this.getName()).append(" reveals ");
-        int current = 0, last = cards.size();        
+        List<Object> message = new ArrayList<>();
+        message.add(this.getName());
+        message.add(" reveals ");
         for (Card card :cards.getCards(game)) {
-            current++;
-            sb.append(card.getName());
-            if (current < last) {
-                sb.append(", ");
+            if (message.size() > 2) {
+                message.add(", ");
             }
+            message.add(card.getName());
         }
-        game.informPlayers(sb.toString());
+        game.informPlayers(message.toArray());
     }
 
     @Override
@@ -1139,10 +1147,12 @@ public abstract class PlayerImpl implements Player, Serializable {
     @Override
     public void phasing(Game game) {
         //20091005 - 502.1
+        // all permanents phase simultaneously, so the phased out permanents are taken before phasing out
+        List<Permanent> phasedOut = game.getBattlefield().getPhasedOut(playerId);
         for (Permanent permanent: game.getBattlefield().getPhasedIn(playerId)) {
             permanent.phaseOut(game);
         }
-        for (Permanent permanent: game.getBattlefield().getPhasedOut(playerId)) {
+        for (Permanent permanent: phasedOut) {
             permanent.phaseIn(game);
         }
     }
@@ -1243,7 +1253,7 @@ public abstract class PlayerImpl implements Player, Serializable {
 
             // show in log which permanents were selected to untap
             for(Permanent permanent :selectedToUntap) {
-                game.informPlayers(new StringBuilder(this.getName()).append(" untapped ").append(permanent.getName()).toString());
+                game.informPlayers(this.getName(), " untapped ", permanent.getName());
             }
             // untap if permanent is not concerned by notMoreThan effects or is included in the selectedToUntapList
             for (Permanent permanent: canBeUntapped) {
@@ -1388,7 +1398,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         GameEvent event = new GameEvent(GameEvent.EventType.LOSE_LIFE, playerId, playerId, playerId, amount, false);
         if (!game.replaceEvent(event)) {
             this.life -= event.getAmount();
-            game.informPlayers(new StringBuilder(this.getName()).append(" loses ").append(event.getAmount()).append(" life").toString());
+            game.informPlayers(this.getName(), " loses ", event.getAmount(), " life");
             game.fireEvent(GameEvent.getEvent(GameEvent.EventType.LOST_LIFE, playerId, playerId, playerId, amount));
             return amount;
         }
@@ -1413,7 +1423,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         GameEvent event = new GameEvent(GameEvent.EventType.GAIN_LIFE, playerId, playerId, playerId, amount, false);
         if (!game.replaceEvent(event)) {
             this.life += event.getAmount();
-            game.informPlayers(new StringBuilder(this.getName()).append(" gains ").append(event.getAmount()).append(" life").toString());
+            game.informPlayers(this.getName(), " gains ", event.getAmount(), " life");
             game.fireEvent(GameEvent.getEvent(GameEvent.EventType.GAINED_LIFE, playerId, playerId, playerId, event.getAmount()));
             return event.getAmount();
         }
@@ -1761,12 +1771,12 @@ public abstract class PlayerImpl implements Player, Serializable {
         //20091005 - 701.14c
         Library searchedLibrary = null;
         if (targetPlayerId.equals(playerId)) {
-            game.informPlayers(new StringBuilder(getName()).append(" searches his or her library").toString());
+            game.informPlayers(getName(), " searches his or her library");
             searchedLibrary = library;
         } else {
             Player targetPlayer = game.getPlayer(targetPlayerId);
             if (targetPlayer != null) {
-                game.informPlayers(new StringBuilder(getName()).append(" searches the library of ").append(targetPlayer.getName()).toString());
+                game.informPlayers(getName(), " searches the library of ", targetPlayer.getName());
                 searchedLibrary = targetPlayer.getLibrary();
             }
         }
@@ -1815,7 +1825,7 @@ public abstract class PlayerImpl implements Player, Serializable {
     @Override
     public boolean flipCoin(Game game, ArrayList<UUID> appliedEffects) {
         boolean result = rnd.nextBoolean();
-        game.informPlayers("[Flip a coin] " + getName() + (result ? " won (head)." : " lost (tail)."));
+        game.informPlayers("[Flip a coin] ", getName(), result ? " won (head)." : " lost (tail).");
         GameEvent event = new GameEvent(GameEvent.EventType.FLIP_COIN, playerId, null, playerId, 0, result);
         event.setAppliedEffects(appliedEffects);
         game.replaceEvent(event);
@@ -1900,38 +1910,37 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     protected boolean canPlay(ActivatedAbility ability, ManaOptions available, Game game) {
         if (!(ability instanceof ManaAbility)) {
-            ActivatedAbility copy = ability.copy();     
-            copy.setCheckPlayableMode(); // prevents from endless loops for asking player to use effects by checking this mode
-            if (!copy.canActivate(playerId, game)) {
-                return false;
-            }
-            game.getContinuousEffects().costModification(copy, game);
-
-            Card card = game.getCard(ability.getSourceId());
-            if (card != null) {
-                for (Ability ability0 : card.getAbilities()) {
-                    if (ability0 instanceof AdjustingSourceCosts) {
-                        // A workaround for Issue#457
-                        if (!(ability0 instanceof ConvokeAbility)) {
-                            ((AdjustingSourceCosts) ability0).adjustCosts(copy, game);
+            ManaOptions abilityOptions;
+            boolean checkPlayableMode = ability.isCheckPlayableMode();
+            ability.setCheckPlayableMode(true); // prevents from endless loops for asking player to use effects by checking this mode
+            try {
+                if (!ability.canActivate(playerId, game)) {
+                    return false;
+                }
+                // the ability is only copied if its costs have to be changed
+                ActivatedAbility costAbility = ability;
+                Card card = game.getCard(ability.getSourceId());
+                if (game.getContinuousEffects().isCostModified(ability, game) || hasAdjustingSourceCosts(card)) {
+                    costAbility = ability.copy();
+                    game.getContinuousEffects().costModification(costAbility, game);
+                    if (card != null) {
+                        for (Ability ability0 : card.getAbilities()) {
+                            if (ability0 instanceof AdjustingSourceCosts) {
+                                // A workaround for Issue#457
+                                if (!(ability0 instanceof ConvokeAbility)) {
+                                    ((AdjustingSourceCosts) ability0).adjustCosts(costAbility, game);
+                                }
+                            }
                         }
                     }
                 }
+                abilityOptions = costAbility.getManaCostsToPay().getOptions();
+            } finally {
+                ability.setCheckPlayableMode(checkPlayableMode);
             }
-
-            ManaOptions abilityOptions = copy.getManaCostsToPay().getOptions();
-            if (abilityOptions.size() == 0) {
+            if (available.enough(abilityOptions)) {
                 return true;
             }
-            else {
-                for (Mana mana: abilityOptions) {
-                    for (Mana avail: available) {
-                        if (mana.enough(avail)) {
-                            return true;
-                        }
-                    }
-                }
-            }
 
             MageObject object = game.getObject(ability.getSourceId());
             for (Ability objectAbility :object.getAbilities()) {
@@ -1951,14 +1960,28 @@ public abstract class PlayerImpl implements Player, Serializable {
         return false;
     }
 
+    private boolean hasAdjustingSourceCosts(Card card) {
+        if (card != null) {
+            for (Ability ability : card.getAbilities()) {
+                if (ability instanceof AdjustingSourceCosts && !(ability instanceof ConvokeAbility)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     public List<Ability> getPlayable(Game game, boolean hidden) {
         List<Ability> playable = new ArrayList<>();
 
         if (!shouldSkipGettingPlayable(game)) {
-
-            ManaOptions availableMana = getManaAvailable(game);
-            availableMana.addMana(manaPool.getMana());
+            PlayableCache cache = getPlayableCache(game);
+            List<Ability> cachedPlayable = hidden ? cache.playableHidden : cache.playable;
+            if (cachedPlayable != null) {
+                return new ArrayList<>(cachedPlayable);
+            }
+            ManaOptions availableMana = cache.availableMana;
 
             if (hidden) {
                 for (Card card : hand.getUniqueCards(game)) {
@@ -1968,7 +1991,7 @@ public abstract class PlayerImpl implements Player, Serializable {
                                 break;
                             }
                         }
-                        if (canPlay(ability, availableMana, game)) {
+                        if (canPlay(ability, cache, game)) {
                             playable.add(ability);
                         }
                     }
@@ -1985,7 +2008,7 @@ public abstract class PlayerImpl implements Player, Serializable {
                             possible = true;
                         }                        
                     } 
-                    if (possible && canPlay(ability, availableMana, game)) {
+                    if (possible && canPlay(ability, cache, game)) {
                         playable.add(ability);
                     }                    
                 }
@@ -2027,7 +2050,7 @@ public abstract class PlayerImpl implements Player, Serializable {
             for (Permanent permanent : game.getBattlefield().getAllActivePermanents(playerId)) {
                 for (ActivatedAbility ability : permanent.getAbilities().getActivatedAbilities(Zone.BATTLEFIELD)) {
                     if (!playableActivated.containsKey(ability.toString())) {
-                        if (canPlay(ability, availableMana, game)) {
+                        if (canPlay(ability, cache, game)) {
                             playableActivated.put(ability.toString(), ability);
                         }
                     }
@@ -2040,7 +2063,7 @@ public abstract class PlayerImpl implements Player, Serializable {
                     MageObject object = game.getObject(this.getCommanderId());
                     if (object != null) {
                         for (ActivatedAbility ability : ((Commander) object).getAbilities().getActivatedAbilities(Zone.COMMAND)) {
-                            if (canPlay(ability, availableMana, game)) {
+                            if (canPlay(ability, cache, game)) {
                                 playableActivated.put(ability.toString(), ability);
                             }
                         }
@@ -2048,6 +2071,11 @@ public abstract class PlayerImpl implements Player, Serializable {
                 }
             }
             playable.addAll(playableActivated.values());
+            if (hidden) {
+                cache.playableHidden = new ArrayList<>(playable);
+            } else {
+                cache.playable = new ArrayList<>(playable);
+            }
         }
 
         return playable;
@@ -2063,9 +2091,10 @@ public abstract class PlayerImpl implements Player, Serializable {
                     playable.add(card.getId());
                 }
             } else {
-                ManaOptions available = getManaAvailable(game);
-                available.addMana(manaPool.getMana());
-
+                PlayableCache cache = getPlayableCache(game);
+                if (cache.playableInHand != null) {
+                    return new HashSet<>(cache.playableInHand);
+                }
                 for (Card card : hand.getCards(game)) {
                     for (ActivatedAbility ability : card.getAbilities().getPlayableAbilities(Zone.HAND)) {
                         if (ability instanceof PlayLandAbility) {
@@ -2073,24 +2102,54 @@ public abstract class PlayerImpl implements Player, Serializable {
                                 break;
                             }
                         }
-                        if (canPlay(ability, available, game)) {
+                        if (canPlay(ability, cache, game)) {
                             playable.add(card.getId());
                             break;
                         }
                     }
                     for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.HAND)) {
-                        if (!playable.contains(ability.getSourceId()) && canPlay(ability, available, game)) {
+                        if (!playable.contains(ability.getSourceId()) && canPlay(ability, cache, game)) {
                             playable.add(card.getId());
                             break;
                         }
                     }
                 }
+                cache.playableInHand = new HashSet<>(playable);
             }
         }
 
         return playable;
     }
 
+    /**
+     * Returns the cache for the current version of the game state. A cache
+     * copied with the player keeps the available mana and the results of
+     * canPlay, the playable lists are only used for the state they were
+     * calculated for.
+     */
+    private PlayableCache getPlayableCache(Game game) {
+        GameState state = game.getState();
+        PlayableCache cache = playableCache;
+        if (cache == null || cache.version != state.getVersion()) {
+            ManaOptions availableMana = getManaAvailable(game);
+            availableMana.addMana(manaPool.getMana());
+            cache = new PlayableCache(state, availableMana);
+        } else if (cache.state != state) {
+            cache = new PlayableCache(state, cache);
+        }
+        playableCache = cache;
+        return cache;
+    }
+
+    private boolean canPlay(ActivatedAbility ability, PlayableCache cache, Game game) {
+        Boolean canPlay = cache.canPlay.get(ability.getId());
+        if (canPlay == null) {
+            canPlay = canPlay(ability, cache.availableMana, game);
+            cache.canPlay.put(ability.getId(), canPlay);
+        }
+        return canPlay;
+    }
+
     /**
      * Skip "silent" phase step when players are not allowed to cast anything.
      * E.g. players can't play or cast anything during declaring attackers.
@@ -2406,10 +2465,9 @@ public abstract class PlayerImpl implements Player, Serializable {
     public boolean moveCardToHandWithInfo(Card card, UUID sourceId, Game game, Zone fromZone) {
         boolean result = false;
         if (card.moveToZone(Zone.HAND, sourceId, game, false)) {
-            game.informPlayers(new StringBuilder(this.getName())
-                    .append(" puts ").append(card.isFaceDown() ? " a face down card":card.getLogName()).append(" ")
-                    .append(fromZone != null ? new StringBuilder("from ").append(fromZone.toString().toLowerCase(Locale.ENGLISH)).append(" "):"")
-                    .append(card.getOwnerId().equals(this.getId()) ? "into his or her hand":"into its owner's hand").toString());
+            game.informPlayers(this.getName(), " puts ", card.isFaceDown() ? " a face down card":card.getLogName(), " ",
+                    fromZone != null ? "from " + fromZone.toString().toLowerCase(Locale.ENGLISH) + " ":"",
+                    card.getOwnerId().equals(this.getId()) ? "into his or her hand":"into its owner's hand");
             result = true;
         }
         return result;
@@ -2419,15 +2477,9 @@ public abstract class PlayerImpl implements Player, Serializable {
     public boolean moveCardToGraveyardWithInfo(Card card, UUID sourceId, Game game, Zone fromZone) {
         boolean result = false;
         if (card.moveToZone(Zone.GRAVEYARD, sourceId, game, fromZone != null ? fromZone.equals(Zone.BATTLEFIELD) : false)) {
-            StringBuilder sb = new StringBuilder(this.getName())
-                    .append(" puts ").append(card.getLogName()).append(" ")
-                    .append(fromZone != null ? new StringBuilder("from ").append(fromZone.toString().toLowerCase(Locale.ENGLISH)).append(" "):"");
-            if (card.getOwnerId().equals(getId())) {
-                sb.append("into his or her graveyard");
-            } else {
-                sb.append("it into its owner's graveyard");
-            }                    
-            game.informPlayers(sb.toString());
+            game.informPlayers(this.getName(), " puts ", card.getLogName(), " ",
+                    fromZone != null ? "from " + fromZone.toString().toLowerCase(Locale.ENGLISH) + " ":"",
+                    card.getOwnerId().equals(getId()) ? "into his or her graveyard":"it into its owner's graveyard");
             result = true;
         }
         return result;
@@ -2437,25 +2489,11 @@ public abstract class PlayerImpl implements Player, Serializable {
     public boolean moveCardToLibraryWithInfo(Card card, UUID sourceId, Game game, Zone fromZone, boolean toTop, boolean withName) {
         boolean result = false;
         if (card.moveToZone(Zone.LIBRARY, sourceId, game, toTop)) {
-            StringBuilder sb = new StringBuilder(this.getName())
-                    .append(" puts ").append(withName ? card.getLogName():"a card").append(" ");
-            if (fromZone != null) {
-                if (fromZone.equals(Zone.PICK)) {
-                    sb.append("a picked card ");
-                } else {
-                    sb.append("from ").append(fromZone.toString().toLowerCase(Locale.ENGLISH)).append(" ");
-                }
-            }
-            sb.append("to the ").append(toTop ? "top":"bottom");
-            if (card.getOwnerId().equals(getId())) {
-                sb.append(" of his or her library");
-            } else {
-                Player player = game.getPlayer(card.getOwnerId());
-                if (player != null) {
-                    sb.append(" of ").append(player.getName()).append("'s library");
-                }
-            }
-            game.informPlayers(sb.toString());
+            Player owner = game.getPlayer(card.getOwnerId());
+            game.informPlayers(this.getName(), " puts ", withName ? card.getLogName():"a card", " ",
+                    fromZone == null ? "":(fromZone.equals(Zone.PICK) ? "a picked card ":"from " + fromZone.toString().toLowerCase(Locale.ENGLISH) + " "),
+                    "to the ", toTop ? "top":"bottom",
+                    card.getOwnerId().equals(getId()) ? " of his or her library":(owner != null ? " of " + owner.getName() + "'s library":""));
             result = true;
         }
         return result;
@@ -2465,10 +2503,9 @@ public abstract class PlayerImpl implements Player, Serializable {
     public boolean moveCardToExileWithInfo(Card card, UUID exileId, String exileName, UUID sourceId, Game game, Zone fromZone) {
         boolean result = false;
         if (card.moveToExile(exileId, exileName, sourceId, game)) {
-            game.informPlayers(new StringBuilder(this.getName())
-                    .append(" moves ").append(card.getLogName()).append(" ")
-                    .append(fromZone != null ? new StringBuilder("from ").append(fromZone.toString().toLowerCase(Locale.ENGLISH)).append(" "):"")
-                    .append("to exile").toString());
+            game.informPlayers(this.getName(), " moves ", card.getLogName(), " ",
+                    fromZone != null ? "from " + fromZone.toString().toLowerCase(Locale.ENGLISH) + " ":"",
+                    "to exile");
             result = true;
         }
         return result;
@@ -2483,10 +2520,9 @@ public abstract class PlayerImpl implements Player, Serializable {
     public boolean putOntoBattlefieldWithInfo(Card card, Game game, Zone fromZone, UUID sourceId, boolean tapped) {        
         boolean result = false;
         if (card.putOntoBattlefield(game, fromZone, sourceId, this.getId(), tapped)) {
-            game.informPlayers(new StringBuilder(this.getName())
-                    .append(" puts ").append(card.getLogName())
-                    .append(" from ").append(fromZone.toString().toLowerCase(Locale.ENGLISH)).append(" ")
-                    .append("onto the Battlefield").toString());
+            game.informPlayers(this.getName(), " puts ", card.getLogName(),
+                    " from ", fromZone.toString().toLowerCase(Locale.ENGLISH), " ",
+                    "onto the Battlefield");
             result = true;
         }
         return result;
@@ -2503,4 +2539,30 @@ public abstract class PlayerImpl implements Player, Serializable {
     }
 
    
+    private static class PlayableCache {
+
+        private final long version;
+        private final GameState state;
+        // available mana including the mana pool, must not be changed
+        private final ManaOptions availableMana;
+        // ability id -> result of canPlay, can be shared with copies of the same state version
+        private final Map<UUID, Boolean> canPlay;
+        private List<Ability> playable;
+        private List<Ability> playableHidden;
+        private Set<UUID> playableInHand;
+
+        PlayableCache(GameState state, ManaOptions availableMana) {
+            this.version = state.getVersion();
+            this.state = state;
+            this.availableMana = availableMana;
+            this.canPlay = new ConcurrentHashMap<>();
+        }
+
+        PlayableCache(GameState state, PlayableCache cache) {
+            this.version = cache.version;
+            this.state = state;
+            this.availableMana = cache.availableMana;
+            this.canPlay = cache.canPlay;
+        }
+    }
 }
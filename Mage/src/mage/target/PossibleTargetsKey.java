@@ -0,0 +1,92 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.target;
+
+import java.util.UUID;
+import mage.constants.Zone;
+
+/**
+ * Key of the possible targets cached in the game state. The possible targets
+ * of a target only depend on its type, filter and zone, if it's a real target
+ * and on the source and controller they are calculated for.
+ *
+ * @author agent
+ */
+class PossibleTargetsKey {
+
+    private final Class<?> type;
+    private final Object matchKey;
+    private final Zone zone;
+    private final boolean notTarget;
+    private final UUID sourceId;
+    private final UUID controllerId;
+    private final boolean withSource;
+    private final int hash;
+
+    PossibleTargetsKey(Class<?> type, Object matchKey, Zone zone, boolean notTarget, UUID sourceId, UUID controllerId, boolean withSource) {
+        this.type = type;
+        this.matchKey = matchKey;
+        this.zone = zone;
+        this.notTarget = notTarget;
+        this.sourceId = sourceId;
+        this.controllerId = controllerId;
+        this.withSource = withSource;
+        int result = type.hashCode();
+        result = 31 * result + matchKey.hashCode();
+        result = 31 * result + (zone != null ? zone.hashCode() : 0);
+        result = 31 * result + (sourceId != null ? sourceId.hashCode() : 0);
+        result = 31 * result + (controllerId != null ? controllerId.hashCode() : 0);
+        result = 31 * result + (notTarget ? 1 : 0);
+        this.hash = 31 * result + (withSource ? 1 : 0);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PossibleTargetsKey)) {
+            return false;
+        }
+        PossibleTargetsKey other = (PossibleTargetsKey) obj;
+        return hash == other.hash
+                && type == other.type
+                && matchKey == other.matchKey
+                && zone == other.zone
+                && notTarget == other.notTarget
+                && withSource == other.withSource
+                && (sourceId == null ? other.sourceId == null : sourceId.equals(other.sourceId))
+                && (controllerId == null ? other.controllerId == null : controllerId.equals(other.controllerId));
+    }
+}
@@ -81,6 +81,12 @@ public interface Target extends Serializable {
     String getMessage();
     String getTargetName();
     void setTargetName(String name);
+    /**
+     * Changes whenever the name or the number of targets is changed.
+     *
+     * @return
+     */
+    int getRuleVersion();
     String getTargetedName(Game game);
     Zone getZone();
 
@@ -86,6 +86,10 @@ public class TargetCard extends TargetObject {
      */
     @Override
     public boolean canChoose(UUID sourceId, UUID sourceControllerId, Game game) {
+        Set<UUID> allTargets = game.getState().getPossibleTargets(getPossibleTargetsKey(sourceId, sourceControllerId));
+        if (allTargets != null) {
+            return !allTargets.isEmpty() && allTargets.size() >= this.minNumberOfTargets;
+        }
         int possibleTargets = 0;
         for (UUID playerId: game.getPlayer(sourceControllerId).getInRange()) {
             Player player = game.getPlayer(playerId);
@@ -155,6 +159,25 @@ public class TargetCard extends TargetObject {
 
     @Override
     public Set<UUID> possibleTargets(UUID sourceId, UUID sourceControllerId, Game game) {
+        PossibleTargetsKey key = getPossibleTargetsKey(sourceId, sourceControllerId);
+        Set<UUID> allTargets = game.getState().getPossibleTargets(key);
+        if (allTargets == null) {
+            allTargets = getPossibleTargets(sourceId, sourceControllerId, game);
+            // stored with the version after the target events
+            game.getState().setPossibleTargets(key, allTargets);
+        }
+        return new HashSet<>(allTargets);
+    }
+
+    /**
+     * The possible targets are cached in the game state until its version
+     * changes (see TargetPermanent)
+     */
+    private PossibleTargetsKey getPossibleTargetsKey(UUID sourceId, UUID sourceControllerId) {
+        return new PossibleTargetsKey(getClass(), filter.getMatchKey(), zone, isNotTarget(), sourceId, sourceControllerId, sourceId != null);
+    }
+
+    private Set<UUID> getPossibleTargets(UUID sourceId, UUID sourceControllerId, Game game) {
         Set<UUID> possibleTargets = new HashSet<>();
         for (UUID playerId : game.getPlayer(sourceControllerId).getInRange()) {
             Player player = game.getPlayer(playerId);
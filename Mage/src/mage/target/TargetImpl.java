@@ -60,6 +60,8 @@ public abstract class TargetImpl implements Target {
     // is the target handled as targeted spell/ability (notTarget = true is used for not targeted effects like e.g. sacrifice)
     protected boolean notTarget = false;
     protected boolean atRandom = false;
+    // changed with the name or the number of targets, the rule text of the ability depends on
+    protected int ruleVersion;
 
     @Override
     public abstract TargetImpl copy();
@@ -84,6 +86,7 @@ public abstract class TargetImpl implements Target {
         this.zoneChangeCounters.putAll(target.zoneChangeCounters);
         this.atRandom = target.atRandom;
         this.notTarget = target.notTarget;
+        this.ruleVersion = target.ruleVersion;
     }
 
     @Override
@@ -99,11 +102,18 @@ public abstract class TargetImpl implements Target {
     @Override
     public void setMinNumberOfTargets(int minNumberOftargets) {
         this.minNumberOfTargets = minNumberOftargets;
+        this.ruleVersion++;
     }
     
     @Override
     public void setMaxNumberOftargets(int maxNumberOftargets) {
         this.maxNumberOfTargets = maxNumberOftargets;
+        this.ruleVersion++;
+    }
+
+    @Override
+    public int getRuleVersion() {
+        return ruleVersion;
     }
 
     @Override
@@ -141,6 +151,7 @@ public abstract class TargetImpl implements Target {
     @Override
     public void setTargetName(String name) {
         this.targetName = name;
+        this.ruleVersion++;
     }
 
     @Override
@@ -408,6 +419,7 @@ public abstract class TargetImpl implements Target {
     @Override
     public void setNotTarget(boolean notTarget) {
         this.notTarget = notTarget;
+        this.ruleVersion++;
     }
 
     @Override
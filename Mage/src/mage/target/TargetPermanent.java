@@ -130,6 +130,11 @@ public class TargetPermanent extends TargetObject {
         if (remainingTargets <= 0) {
             return true;
         }
+        Set<UUID> possibleTargets = game.getState().getPossibleTargets(getPossibleTargetsKey(sourceId, sourceControllerId, true));
+        if (possibleTargets != null) {
+            int count = countNotChosen(possibleTargets);
+            return count > 0 && count >= remainingTargets;
+        }
         int count = 0;
         MageObject targetSource = game.getObject(sourceId);
         for (Permanent permanent: game.getBattlefield().getActivePermanents(filter, sourceControllerId, sourceId, game)) {
@@ -161,6 +166,11 @@ public class TargetPermanent extends TargetObject {
             // TODO: retest Anowon the Ruin Sage
             return true;
         }
+        Set<UUID> possibleTargets = game.getState().getPossibleTargets(getPossibleTargetsKey(null, sourceControllerId, false));
+        if (possibleTargets != null) {
+            int count = countNotChosen(possibleTargets);
+            return count > 0 && count >= remainingTargets;
+        }
         int count = 0;
         for (Permanent permanent: game.getBattlefield().getActivePermanents(filter, sourceControllerId, game)) {
             if (!targets.containsKey(permanent.getId())) {
@@ -175,29 +185,64 @@ public class TargetPermanent extends TargetObject {
 
     @Override
     public Set<UUID> possibleTargets(UUID sourceId, UUID sourceControllerId, Game game) {
-        Set<UUID> possibleTargets = new HashSet<>();
-        MageObject targetSource = game.getObject(sourceId);
-         for (Permanent permanent: game.getBattlefield().getActivePermanents(filter, sourceControllerId, sourceId, game)) {
-            if (!targets.containsKey(permanent.getId())) {
+        PossibleTargetsKey key = getPossibleTargetsKey(sourceId, sourceControllerId, true);
+        Set<UUID> allTargets = game.getState().getPossibleTargets(key);
+        if (allTargets == null) {
+            allTargets = new HashSet<>();
+            MageObject targetSource = game.getObject(sourceId);
+            for (Permanent permanent: game.getBattlefield().getActivePermanents(filter, sourceControllerId, sourceId, game)) {
                 if (notTarget || permanent.canBeTargetedBy(targetSource, sourceControllerId, game)) {
-                    possibleTargets.add(permanent.getId());
+                    allTargets.add(permanent.getId());
                 }
             }
+            game.getState().setPossibleTargets(key, allTargets);
         }
-        return possibleTargets;
+        return getNotChosen(allTargets);
     }
 
     @Override
     public Set<UUID> possibleTargets(UUID sourceControllerId, Game game) {
+        PossibleTargetsKey key = getPossibleTargetsKey(null, sourceControllerId, false);
+        Set<UUID> allTargets = game.getState().getPossibleTargets(key);
+        if (allTargets == null) {
+            allTargets = new HashSet<>();
+            for (Permanent permanent: game.getBattlefield().getActivePermanents(filter, sourceControllerId, game)) {
+                allTargets.add(permanent.getId());
+            }
+            game.getState().setPossibleTargets(key, allTargets);
+        }
+        return getNotChosen(allTargets);
+    }
+
+    /**
+     * The possible targets (also the already chosen ones) are cached in the
+     * game state until its version changes, so choosing several targets and
+     * the target options of the AI don't check the whole battlefield again.
+     */
+    private PossibleTargetsKey getPossibleTargetsKey(UUID sourceId, UUID sourceControllerId, boolean withSource) {
+        return new PossibleTargetsKey(getClass(), filter.getMatchKey(), zone, notTarget, sourceId, sourceControllerId, withSource);
+    }
+
+    private Set<UUID> getNotChosen(Set<UUID> allTargets) {
         Set<UUID> possibleTargets = new HashSet<>();
-        for (Permanent permanent: game.getBattlefield().getActivePermanents(filter, sourceControllerId, game)) {
-            if (!targets.containsKey(permanent.getId())) {
-                possibleTargets.add(permanent.getId());
+        for (UUID targetId: allTargets) {
+            if (!targets.containsKey(targetId)) {
+                possibleTargets.add(targetId);
             }
         }
         return possibleTargets;
     }
 
+    private int countNotChosen(Set<UUID> allTargets) {
+        int count = 0;
+        for (UUID targetId: allTargets) {
+            if (!targets.containsKey(targetId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Override
     public TargetPermanent copy() {
         return new TargetPermanent(this);
@@ -87,6 +87,10 @@ public class TargetPlayer extends TargetImpl {
      */
     @Override
     public boolean canChoose(UUID sourceId, UUID sourceControllerId, Game game) {
+        Set<UUID> possibleTargets = game.getState().getPossibleTargets(getPossibleTargetsKey(sourceId, sourceControllerId, true));
+        if (possibleTargets != null) {
+            return !possibleTargets.isEmpty() && possibleTargets.size() >= this.minNumberOfTargets;
+        }
         int count = 0;
         MageObject targetSource = game.getObject(sourceId);
         for (UUID playerId: game.getPlayer(sourceControllerId).getInRange()) {
@@ -112,6 +116,10 @@ public class TargetPlayer extends TargetImpl {
      */
     @Override
     public boolean canChoose(UUID sourceControllerId, Game game) {
+        Set<UUID> possibleTargets = game.getState().getPossibleTargets(getPossibleTargetsKey(null, sourceControllerId, false));
+        if (possibleTargets != null) {
+            return !possibleTargets.isEmpty() && possibleTargets.size() >= this.minNumberOfTargets;
+        }
         int count = 0;
         for (UUID playerId: game.getPlayer(sourceControllerId).getInRange()) {
             Player player = game.getPlayer(playerId);
@@ -126,28 +134,46 @@ public class TargetPlayer extends TargetImpl {
 
     @Override
     public Set<UUID> possibleTargets(UUID sourceId, UUID sourceControllerId, Game game) {
-        Set<UUID> possibleTargets = new HashSet<UUID>();
-        MageObject targetSource = game.getObject(sourceId);
-        for (UUID playerId: game.getPlayer(sourceControllerId).getInRange()) {
-            Player player = game.getPlayer(playerId);
-            if (player != null && !player.hasLeft() && filter.match(player, sourceId, sourceControllerId, game)) {
-                if (player.canBeTargetedBy(targetSource, game))
-                    possibleTargets.add(playerId);
+        PossibleTargetsKey key = getPossibleTargetsKey(sourceId, sourceControllerId, true);
+        Set<UUID> possibleTargets = game.getState().getPossibleTargets(key);
+        if (possibleTargets == null) {
+            possibleTargets = new HashSet<UUID>();
+            MageObject targetSource = game.getObject(sourceId);
+            for (UUID playerId: game.getPlayer(sourceControllerId).getInRange()) {
+                Player player = game.getPlayer(playerId);
+                if (player != null && !player.hasLeft() && filter.match(player, sourceId, sourceControllerId, game)) {
+                    if (player.canBeTargetedBy(targetSource, game))
+                        possibleTargets.add(playerId);
+                }
             }
+            game.getState().setPossibleTargets(key, possibleTargets);
         }
-        return possibleTargets;
+        return new HashSet<UUID>(possibleTargets);
     }
 
     @Override
     public Set<UUID> possibleTargets(UUID sourceControllerId, Game game) {
-        Set<UUID> possibleTargets = new HashSet<UUID>();
-        for (UUID playerId: game.getPlayer(sourceControllerId).getInRange()) {
-            Player player = game.getPlayer(playerId);
-            if (player != null && !player.hasLeft() && filter.match(player, game)) {
-                possibleTargets.add(playerId);
+        PossibleTargetsKey key = getPossibleTargetsKey(null, sourceControllerId, false);
+        Set<UUID> possibleTargets = game.getState().getPossibleTargets(key);
+        if (possibleTargets == null) {
+            possibleTargets = new HashSet<UUID>();
+            for (UUID playerId: game.getPlayer(sourceControllerId).getInRange()) {
+                Player player = game.getPlayer(playerId);
+                if (player != null && !player.hasLeft() && filter.match(player, game)) {
+                    possibleTargets.add(playerId);
+                }
             }
+            game.getState().setPossibleTargets(key, possibleTargets);
         }
-        return possibleTargets;
+        return new HashSet<UUID>(possibleTargets);
+    }
+
+    /**
+     * The possible targets are cached in the game state until its version
+     * changes (see TargetPermanent)
+     */
+    private PossibleTargetsKey getPossibleTargetsKey(UUID sourceId, UUID sourceControllerId, boolean withSource) {
+        return new PossibleTargetsKey(getClass(), filter.getMatchKey(), zone, notTarget, sourceId, sourceControllerId, withSource);
     }
 
     @Override
@@ -42,12 +42,37 @@ import mage.game.Game;
  */
 public class Targets extends ArrayList<Target> {
 
+    // counts the targets replaced by set, other changes are counted by modCount
+    private int replacements;
+
     public Targets() {}
 
     public Targets(final Targets targets) {
         for (Target target: targets) {
             this.add(target.copy());
         }
+        this.modCount = targets.modCount;
+        this.replacements = targets.replacements;
+    }
+
+    @Override
+    public Target set(int index, Target target) {
+        replacements++;
+        return super.set(index, target);
+    }
+
+    /**
+     * Changes whenever a target is added, removed or replaced or the name or
+     * the number of targets of a target is changed.
+     *
+     * @return
+     */
+    public int getRuleVersion() {
+        int version = modCount * 31 + replacements;
+        for (Target target: this) {
+            version = version * 31 + target.getRuleVersion();
+        }
+        return version;
     }
 
     public List<Target> getUnchosen() {
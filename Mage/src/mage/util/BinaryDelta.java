@@ -0,0 +1,178 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes a byte array as the difference to a base byte array.
+ *
+ * The base is indexed in blocks of a fixed size. The target is scanned with a
+ * rolling hash and every part that also exists in the base is written as a
+ * reference into the base, all other bytes are written as literals. The
+ * resulting instructions are compressed.
+ *
+ * An encoding against an empty base is simply the compressed target.
+ *
+ * @author agent
+ */
+public class BinaryDelta {
+
+    private static final int BLOCK_SIZE = 32;
+    private static final int HASH_BASE = 31;
+
+    private static final byte OP_COPY = 0;
+    private static final byte OP_LITERAL = 1;
+
+    private BinaryDelta() {
+    }
+
+    public static byte[] encode(byte[] base, byte[] target) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bos))) {
+            out.writeInt(target.length);
+            Map<Integer, Integer> blocks = indexBlocks(base);
+            int power = 1;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                power *= HASH_BASE;
+            }
+            int literalStart = 0;
+            int pos = 0;
+            int hash = 0;
+            boolean rehash = true;
+            while (pos + BLOCK_SIZE <= target.length) {
+                if (rehash) {
+                    hash = hash(target, pos, BLOCK_SIZE);
+                    rehash = false;
+                }
+                Integer baseOffset = blocks.get(hash);
+                if (baseOffset != null && equal(base, baseOffset, target, pos, BLOCK_SIZE)) {
+                    // extend the match backwards into the pending literals and forwards as far as possible
+                    int start = pos;
+                    int from = baseOffset;
+                    while (start > literalStart && from > 0 && base[from - 1] == target[start - 1]) {
+                        start--;
+                        from--;
+                    }
+                    int end = pos + BLOCK_SIZE;
+                    int to = baseOffset + BLOCK_SIZE;
+                    while (end < target.length && to < base.length && base[to] == target[end]) {
+                        end++;
+                        to++;
+                    }
+                    writeLiteral(out, target, literalStart, start);
+                    out.writeByte(OP_COPY);
+                    out.writeInt(from);
+                    out.writeInt(end - start);
+                    pos = end;
+                    literalStart = end;
+                    rehash = true;
+                } else {
+                    // roll the hash window one byte forward
+                    if (pos + BLOCK_SIZE < target.length) {
+                        hash = hash * HASH_BASE + target[pos + BLOCK_SIZE] - power * target[pos];
+                    }
+                    pos++;
+                }
+            }
+            writeLiteral(out, target, literalStart, target.length);
+        } catch (IOException e) {
+            // can't happen writing to memory
+            throw new IllegalStateException(e);
+        }
+        return bos.toByteArray();
+    }
+
+    public static byte[] decode(byte[] base, byte[] delta) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(delta)))) {
+            byte[] target = new byte[in.readInt()];
+            int pos = 0;
+            while (pos < target.length) {
+                byte op = in.readByte();
+                if (op == OP_COPY) {
+                    int from = in.readInt();
+                    int length = in.readInt();
+                    System.arraycopy(base, from, target, pos, length);
+                    pos += length;
+                } else {
+                    int length = in.readInt();
+                    in.readFully(target, pos, length);
+                    pos += length;
+                }
+            }
+            return target;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corrupt delta", e);
+        }
+    }
+
+    private static Map<Integer, Integer> indexBlocks(byte[] base) {
+        Map<Integer, Integer> blocks = new HashMap<>(base.length / BLOCK_SIZE + 1);
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length; offset += BLOCK_SIZE) {
+            int hash = hash(base, offset, BLOCK_SIZE);
+            if (!blocks.containsKey(hash)) {
+                blocks.put(hash, offset);
+            }
+        }
+        return blocks;
+    }
+
+    private static int hash(byte[] data, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = hash * HASH_BASE + data[i];
+        }
+        return hash;
+    }
+
+    private static boolean equal(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeLiteral(DataOutputStream out, byte[] data, int from, int to) throws IOException {
+        if (to > from) {
+            out.writeByte(OP_LITERAL);
+            out.writeInt(to - from);
+            out.write(data, from, to - from);
+        }
+    }
+}
@@ -93,6 +93,39 @@ public class Copier<T> {
         return null;
     }
 
+    public byte[] serialize(T obj) {
+        try {
+            FastByteArrayOutputStream fbos = new FastByteArrayOutputStream();
+            ObjectOutputStream out= new ObjectOutputStream(fbos);
+            out.writeObject(obj);
+            out.flush();
+            out.close();
+
+            byte[] copy = new byte[fbos.getSize()];
+            System.arraycopy(fbos.getByteArray(), 0, copy, 0, fbos.getSize());
+            return copy;
+        }
+        catch(IOException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    public T deserialize(byte[] buffer) {
+        T copy = null;
+        try {
+            ObjectInputStream in = new CopierObjectInputStream(loader != null ? loader : Copier.class.getClassLoader(), new ByteArrayInputStream(buffer));
+            copy = (T) in.readObject();
+        }
+        catch(IOException e) {
+            e.printStackTrace();
+        }
+        catch(ClassNotFoundException cnfe) {
+            cnfe.printStackTrace();
+        }
+        return copy;
+    }
+
     public T uncompressCopy(byte[] buffer) {
         T copy = null;
         try {
@@ -0,0 +1,92 @@
+/*
+* Copyright 2010 BetaSteward_at_googlemail.com. All rights reserved.
+*
+* Redistribution and use in source and binary forms, with or without modification, are
+* permitted provided that the following conditions are met:
+*
+*    1. Redistributions of source code must retain the above copyright notice, this list of
+*       conditions and the following disclaimer.
+*
+*    2. Redistributions in binary form must reproduce the above copyright notice, this list
+*       of conditions and the following disclaimer in the documentation and/or other materials
+*       provided with the distribution.
+*
+* THIS SOFTWARE IS PROVIDED BY BetaSteward_at_googlemail.com ``AS IS'' AND ANY EXPRESS OR IMPLIED
+* WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+* FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL BetaSteward_at_googlemail.com OR
+* CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+* CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+* SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+* ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+* NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+* ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*
+* The views and conclusions contained in the software and documentation are those of the
+* authors and should not be interpreted as representing official policies, either expressed
+* or implied, of BetaSteward_at_googlemail.com.
+*/
+
+package mage.util;
+
+import java.util.UUID;
+
+/**
+ * Helper to build 64 bit hash values of game objects without building strings
+ * (e.g. to compare simulated game states).
+ *
+ * Values of ordered content are combined with hash(long, ...). Values of
+ * unordered content (e.g. the permanents of the battlefield) are added, so
+ * the order doesn't change the result.
+ *
+ * @author agent
+ */
+public final class ValueHash {
+
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private ValueHash() {
+    }
+
+    public static long hash(long hash, long value) {
+        return mix(hash * MULTIPLIER + value);
+    }
+
+    public static long hash(long hash, boolean value) {
+        return hash(hash, value ? 1 : 2);
+    }
+
+    public static long hash(long hash, UUID id) {
+        if (id == null) {
+            return hash(hash, 0);
+        }
+        return hash(hash(hash, id.getMostSignificantBits()), id.getLeastSignificantBits());
+    }
+
+    public static long hash(long hash, String value) {
+        return hash(hash, value == null ? 0 : value.hashCode());
+    }
+
+    public static long hash(long hash, Enum<?> value) {
+        return hash(hash, value == null ? -1 : value.ordinal());
+    }
+
+    public static long hash(long hash, Iterable<?> values) {
+        for (Object value: values) {
+            if (value instanceof UUID) {
+                hash = hash(hash, (UUID) value);
+            } else {
+                hash = hash(hash, value == null ? 0 : value.hashCode());
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Finalizer of the SplitMix64 generator - spreads the bits of the value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -37,6 +37,10 @@ public class TraceUtil {
      * @param combat
      */
     public static void traceCombatIfNeeded(Game game, Combat combat) {
+        if (game.isSimulation()) {
+            // the combats the AI simulates are not traced
+            return;
+        }
         // trace non-flying vs flying       
         for (CombatGroup group : combat.getGroups()) {
             for (UUID attackerId : group.getAttackers()) {
@@ -29,6 +29,7 @@
 package mage.watchers;
 
 import java.io.Serializable;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -99,5 +100,15 @@ public abstract class Watcher implements Serializable {
 
     public abstract void watch(GameEvent event, Game game);
 
+    /**
+     * Returns the event types the watcher is interested in. The watcher gets
+     * only events of these types.
+     *
+     * @return the event types or null if the watcher has to get all events
+     */
+    public Set<GameEvent.EventType> getWatchedEvents() {
+        return null;
+    }
+
     public abstract Watcher copy();
 }
@@ -28,8 +28,12 @@
 
 package mage.watchers;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -40,6 +44,11 @@ import mage.game.events.GameEvent;
  */
 public class Watchers extends HashMap<String, Watcher> {
 
+    // watchers that declared the event types they watch
+    private final Map<GameEvent.EventType, List<Watcher>> watchersByEvent = new EnumMap<>(GameEvent.EventType.class);
+    // watchers that get all events
+    private final List<Watcher> allEventsWatchers = new ArrayList<>();
+
     public Watchers() {}
 
     public Watchers(final Watchers watchers) {
@@ -58,10 +67,61 @@ public class Watchers extends HashMap<String, Watcher> {
         }
     }
 
+    @Override
+    public Watcher put(String key, Watcher watcher) {
+        Watcher oldWatcher = super.put(key, watcher);
+        if (oldWatcher != null) {
+            removeFromIndex(oldWatcher);
+        }
+        Set<GameEvent.EventType> eventTypes = watcher.getWatchedEvents();
+        if (eventTypes == null) {
+            allEventsWatchers.add(watcher);
+        } else {
+            for (GameEvent.EventType eventType: eventTypes) {
+                List<Watcher> watchers = watchersByEvent.get(eventType);
+                if (watchers == null) {
+                    watchers = new ArrayList<>();
+                    watchersByEvent.put(eventType, watchers);
+                }
+                watchers.add(watcher);
+            }
+        }
+        return oldWatcher;
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        Watcher watcher = super.remove(key);
+        if (watcher != null) {
+            removeFromIndex(watcher);
+        }
+        return watcher;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        watchersByEvent.clear();
+        allEventsWatchers.clear();
+    }
+
+    private void removeFromIndex(Watcher watcher) {
+        allEventsWatchers.remove(watcher);
+        for (List<Watcher> watchers: watchersByEvent.values()) {
+            watchers.remove(watcher);
+        }
+    }
+
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher: this.values()) {
+        for (Watcher watcher: allEventsWatchers) {
             watcher.watch(event, game);
         }
+        List<Watcher> watchers = watchersByEvent.get(event.getType());
+        if (watchers != null) {
+            for (Watcher watcher: watchers) {
+                watcher.watch(event, game);
+            }
+        }
     }
 
     public void reset() {
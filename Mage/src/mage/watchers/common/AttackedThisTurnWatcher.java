@@ -32,6 +32,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -52,6 +53,11 @@ public class AttackedThisTurnWatcher extends Watcher {
         this.attackedThisTurnCreatures.addAll(watcher.attackedThisTurnCreatures);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEvents() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.ATTACKER_DECLARED) {
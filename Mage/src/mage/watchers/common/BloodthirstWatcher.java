@@ -33,6 +33,8 @@ import mage.game.events.DamagedPlayerEvent;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -49,6 +51,11 @@ public class BloodthirstWatcher extends Watcher {
         super(watcher);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEvents() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (condition == true) { //no need to check - condition has already occured
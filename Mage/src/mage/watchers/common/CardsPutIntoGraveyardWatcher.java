@@ -28,6 +28,7 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -65,6 +66,11 @@ public class CardsPutIntoGraveyardWatcher extends Watcher {
         this.cardsPutToGraveyardFromBattlefield.addAll(watcher.cardsPutToGraveyardFromBattlefield);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEvents() {
+        return EnumSet.of(GameEvent.EventType.UNTAP_STEP_PRE, GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.UNTAP_STEP_PRE) {
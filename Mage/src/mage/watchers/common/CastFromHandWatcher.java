@@ -7,6 +7,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class CastFromHandWatcher extends Watcher {
     public CastFromHandWatcher() {
         super("CastFromHand", WatcherScope.CARD);
@@ -16,6 +19,11 @@ public class CastFromHandWatcher extends Watcher {
         super(watcher);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEvents() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
          if (event.getType() == GameEvent.EventType.SPELL_CAST && event.getZone() == Zone.HAND) {
@@ -27,8 +27,10 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.cards.Card;
@@ -68,6 +70,11 @@ public class CommanderCombatDamageWatcher extends Watcher {
         return new CommanderCombatDamageWatcher(this);
     }
 
+    @Override
+    public Set<EventType> getWatchedEvents() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER, EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == EventType.DAMAGED_PLAYER && event instanceof DamagedPlayerEvent) {
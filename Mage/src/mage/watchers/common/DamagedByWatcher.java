@@ -27,6 +27,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -61,6 +62,11 @@ public class DamagedByWatcher extends Watcher {
         return new DamagedByWatcher(this);
     }
 
+    @Override
+    public Set<EventType> getWatchedEvents() {
+        return EnumSet.of(EventType.DAMAGED_CREATURE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == EventType.DAMAGED_CREATURE && sourceId.equals(event.getSourceId())) {
@@ -7,6 +7,9 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  * @author Loki
@@ -26,6 +29,11 @@ public class LandfallWatcher extends Watcher {
         return new LandfallWatcher(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEvents() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (condition == true) { //no need to check - condition has already occured
@@ -36,6 +36,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Watcher saves the mana that was spent to cast a spell
  *
@@ -55,6 +58,11 @@ public class ManaSpentToCastWatcher extends Watcher {
         this.payment = watcher.payment;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEvents() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
          if (event.getType() == GameEvent.EventType.SPELL_CAST && event.getZone() == Zone.HAND) {
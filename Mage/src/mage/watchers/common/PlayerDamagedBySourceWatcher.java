@@ -27,6 +27,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -61,6 +62,11 @@ public class PlayerDamagedBySourceWatcher extends Watcher {
         return new PlayerDamagedBySourceWatcher(this);
     }
 
+    @Override
+    public Set<EventType> getWatchedEvents() {
+        return EnumSet.of(EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == EventType.DAMAGED_PLAYER) {
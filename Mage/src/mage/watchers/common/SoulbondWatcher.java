@@ -46,6 +46,9 @@ import mage.players.Player;
 import mage.target.common.TargetControlledPermanent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Reacts on various events to pair or unpair creatures on the battlefield.
  *
@@ -68,6 +71,11 @@ public class SoulbondWatcher extends Watcher {
         super(watcher);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEvents() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD) {
@@ -34,7 +34,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.watchers.Watcher;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -60,6 +62,11 @@ public class SourceDidDamageWatcher extends Watcher {
         return new SourceDidDamageWatcher(this);
     }
 
+    @Override
+    public Set<EventType> getWatchedEvents() {
+        return EnumSet.of(EventType.DAMAGED_CREATURE, EventType.DAMAGED_PLANESWALKER, EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == EventType.DAMAGED_CREATURE